@@ -1,6 +1,13 @@
 package com.fullcycle.admin.catalogo.application;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public abstract class NullaryUseCase<OUT> {
 
     public abstract OUT execute();
+
+    public final CompletableFuture<OUT> executeAsync(final Executor anExecutor) {
+        return CompletableFuture.supplyAsync(this::execute, anExecutor);
+    }
 }
@@ -1,6 +1,13 @@
 package com.fullcycle.admin.catalogo.application;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public abstract class UnitUseCase<IN> {
 
     public abstract void execute(IN anIn);
+
+    public final CompletableFuture<Void> executeAsync(final IN anIn, final Executor anExecutor) {
+        return CompletableFuture.runAsync(() -> execute(anIn), anExecutor);
+    }
 }
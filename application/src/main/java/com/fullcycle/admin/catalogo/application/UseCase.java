@@ -1,6 +1,13 @@
 package com.fullcycle.admin.catalogo.application;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public abstract class UseCase<IN, OUT> {
 
     public abstract OUT execute(IN anIn);
+
+    public final CompletableFuture<OUT> executeAsync(final IN anIn, final Executor anExecutor) {
+        return CompletableFuture.supplyAsync(() -> execute(anIn), anExecutor);
+    }
 }
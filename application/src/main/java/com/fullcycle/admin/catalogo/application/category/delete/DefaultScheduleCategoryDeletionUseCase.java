@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.application.category.delete;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.util.Objects;
+
+public class DefaultScheduleCategoryDeletionUseCase extends ScheduleCategoryDeletionUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultScheduleCategoryDeletionUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final String anId) {
+        this.categoryGateway.findById(CategoryID.from(anId))
+                .ifPresent(aCategory -> this.categoryGateway.scheduleDeletion(aCategory.deactivate()));
+    }
+}
@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.application.category.delete;
+
+import com.fullcycle.admin.catalogo.application.UnitUseCase;
+
+public abstract class ScheduleCategoryDeletionUseCase extends UnitUseCase<String> {
+}
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.application.category.retrieve.list;
 
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryRowMapper;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 
@@ -17,4 +18,9 @@ public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
         return this.categoryGateway.findAll(aQuery)
                 .map(CategoryListOutput::from);
     }
+
+    @Override
+    public <T> Pagination<T> execute(final SearchQuery aQuery, final CategoryRowMapper<T> aMapper) {
+        return this.categoryGateway.findAll(aQuery, aMapper);
+    }
 }
@@ -1,9 +1,23 @@
 package com.fullcycle.admin.catalogo.application.category.retrieve.list;
 
 import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.category.CategoryRowMapper;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public abstract class ListCategoriesUseCase
         extends UseCase<SearchQuery, Pagination<CategoryListOutput>> {
+
+    public abstract <T> Pagination<T> execute(SearchQuery aQuery, CategoryRowMapper<T> aMapper);
+
+    public final <T> CompletableFuture<Pagination<T>> executeAsync(
+            final SearchQuery aQuery,
+            final CategoryRowMapper<T> aMapper,
+            final Executor anExecutor
+    ) {
+        return CompletableFuture.supplyAsync(() -> execute(aQuery, aMapper), anExecutor);
+    }
 }
@@ -0,0 +1,100 @@
+package com.fullcycle.admin.catalogo.application.genre;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+public class GenreCategoriesValidator {
+
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
+    private final CategoryGateway categoryGateway;
+    private final Executor executor;
+    private final int chunkSize;
+
+    public GenreCategoriesValidator(final CategoryGateway categoryGateway, final Executor executor) {
+        this(categoryGateway, executor, DEFAULT_CHUNK_SIZE);
+    }
+
+    public GenreCategoriesValidator(
+            final CategoryGateway categoryGateway,
+            final Executor executor,
+            final int chunkSize
+    ) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("'chunkSize' should be greater than zero");
+        }
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.executor = Objects.requireNonNull(executor);
+        this.chunkSize = chunkSize;
+    }
+
+    public ValidationHandler validate(final List<CategoryID> ids) {
+        return await(validateAsync(ids));
+    }
+
+    public CompletableFuture<ValidationHandler> validateAsync(final List<CategoryID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return CompletableFuture.completedFuture(Notification.create());
+        }
+
+        final var lookups = chunks(ids).stream()
+                .map(aChunk -> CompletableFuture.supplyAsync(() -> categoryGateway.existsByIds(aChunk), executor))
+                .toList();
+
+        return CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    final var retrievedIds = new HashSet<CategoryID>(ids.size());
+                    lookups.forEach(aLookup -> retrievedIds.addAll(aLookup.join()));
+                    return missing(ids, retrievedIds);
+                });
+    }
+
+    private List<List<CategoryID>> chunks(final List<CategoryID> ids) {
+        if (ids.size() <= chunkSize) {
+            return List.of(ids);
+        }
+
+        final var chunks = new ArrayList<List<CategoryID>>((ids.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+        return chunks;
+    }
+
+    private ValidationHandler missing(final List<CategoryID> ids, final HashSet<CategoryID> retrievedIds) {
+        final var notification = Notification.create();
+
+        final var missingIdsMessage = ids.stream()
+                .filter(anId -> !retrievedIds.contains(anId))
+                .map(CategoryID::getValue)
+                .collect(Collectors.joining(", "));
+
+        if (!missingIdsMessage.isEmpty()) {
+            notification.append(new Error("Some categories could not be found: %s".formatted(missingIdsMessage)));
+        }
+        return notification;
+    }
+
+    public static <T> T await(final CompletableFuture<T> aFuture) {
+        try {
+            return aFuture.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -1,27 +1,29 @@
 package com.fullcycle.admin.catalogo.application.genre.create;
 
+import com.fullcycle.admin.catalogo.application.genre.GenreCategoriesValidator;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
-import com.fullcycle.admin.catalogo.domain.validation.Error;
-import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executor;
 
 public class DefaultCreateGenreUseCase extends CreateGenreUseCase {
 
-    private final CategoryGateway categoryGateway;
     private final GenreGateway genreGateway;
+    private final GenreCategoriesValidator categoriesValidator;
 
-    public DefaultCreateGenreUseCase(final CategoryGateway categoryGateway, final GenreGateway genreGateway) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    public DefaultCreateGenreUseCase(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final Executor executor
+    ) {
         this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.categoriesValidator = new GenreCategoriesValidator(categoryGateway, executor);
     }
 
     @Override
@@ -31,7 +33,7 @@ public class DefaultCreateGenreUseCase extends CreateGenreUseCase {
         final var categories = toCategoryId(aCommand.categories());
 
         final var notification = Notification.create();
-        notification.append(validateCategories(categories));
+        notification.append(this.categoriesValidator.validate(categories));
         final var aGenre = notification.validate(() -> Genre.newGenre(aName, isActive));
 
         if (notification.hasErrors()) {
@@ -43,25 +45,6 @@ public class DefaultCreateGenreUseCase extends CreateGenreUseCase {
         return CreateGenreOutput.from(this.genreGateway.create(aGenre));
     }
 
-    private ValidationHandler validateCategories(final List<CategoryID> ids) {
-        final var notification = Notification.create();
-
-        if (ids == null || ids.isEmpty()) return notification;
-
-        final var retrievedIds = categoryGateway.existsByIds(ids);
-        if (ids.size() != retrievedIds.size()) {
-            final var commandsIds = new ArrayList<>(ids);
-            commandsIds.removeAll(retrievedIds);
-
-            final var missingIdsMessage = commandsIds.stream()
-                    .map(CategoryID::getValue)
-                    .collect(Collectors.joining(", "));
-
-            notification.append(new Error("Some categories could not be found: %s".formatted(missingIdsMessage)));
-        }
-        return notification;
-    }
-
     private List<CategoryID> toCategoryId(final List<String> categories) {
         return categories.stream()
                 .map(CategoryID::from)
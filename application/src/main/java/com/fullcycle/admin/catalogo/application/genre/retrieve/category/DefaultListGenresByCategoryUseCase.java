@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.category;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultListGenresByCategoryUseCase extends ListGenresByCategoryUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultListGenresByCategoryUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public Pagination<String> execute(final ListGenresByCategoryCommand aCommand) {
+        final var aQuery = aCommand.query();
+        final var categoryIds = aCommand.categoryIds().stream()
+                .distinct()
+                .map(CategoryID::from)
+                .toList();
+
+        final var genreIds = switch (categoryIds.size()) {
+            case 0 -> new Pagination<GenreID>(aQuery.page(), aQuery.perPage(), 0, List.of());
+            case 1 -> this.genreGateway.findByCategory(categoryIds.get(0), aQuery);
+            default -> this.genreGateway.findByCategories(categoryIds, aQuery);
+        };
+
+        return genreIds.map(GenreID::getValue);
+    }
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.category;
+
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+
+import java.util.List;
+
+public record ListGenresByCategoryCommand(
+        List<String> categoryIds,
+        SearchQuery query
+) {
+    public static ListGenresByCategoryCommand with(final List<String> categoryIds, final SearchQuery aQuery) {
+        return new ListGenresByCategoryCommand(categoryIds != null ? categoryIds : List.of(), aQuery);
+    }
+}
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.category;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+
+public abstract class ListGenresByCategoryUseCase extends UseCase<ListGenresByCategoryCommand, Pagination<String>> {
+}
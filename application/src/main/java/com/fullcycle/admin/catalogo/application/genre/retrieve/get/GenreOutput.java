@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalogo.application.genre.retrieve.get;
 
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
 
 import java.time.Instant;
 import java.util.List;
@@ -20,9 +21,7 @@ public record GenreOutput(
                 aGenre.getId().getValue(),
                 aGenre.getName(),
                 aGenre.isActive(),
-                aGenre.getCategories().stream()
-                        .map(CategoryID::getValue)
-                        .toList(),
+                CollectionUtils.mapTo(aGenre.getCategories(), CategoryID::getValue),
                 aGenre.getCreatedAt(),
                 aGenre.getUpdatedAt(),
                 aGenre.getDeletedAt()
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
 
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreRowMapper;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 
@@ -19,4 +20,9 @@ public class DefaultListGenreUseCase extends ListGenreUseCase {
         return genreGateway.findAll(aQuery)
                 .map(GenreListOutput::from);
     }
+
+    @Override
+    public <T> Pagination<T> execute(final SearchQuery aQuery, final GenreRowMapper<T> aMapper) {
+        return genreGateway.findAll(aQuery, aMapper);
+    }
 }
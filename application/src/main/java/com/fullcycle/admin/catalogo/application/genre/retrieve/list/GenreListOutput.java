@@ -2,11 +2,14 @@ package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
 
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
 
 import java.time.Instant;
 import java.util.List;
 
 public record GenreListOutput(
+        GenreID id,
         String name,
         boolean isActive,
         List<String> categories,
@@ -15,11 +18,10 @@ public record GenreListOutput(
 ) {
     public static GenreListOutput from(final Genre aGenre) {
         return new GenreListOutput(
+                aGenre.getId(),
                 aGenre.getName(),
                 aGenre.isActive(),
-                aGenre.getCategories().stream()
-                        .map(CategoryID::getValue)
-                        .toList(),
+                CollectionUtils.mapTo(aGenre.getCategories(), CategoryID::getValue),
                 aGenre.getCreatedAt(),
                 aGenre.getDeletedAt()
         );
@@ -1,8 +1,22 @@
 package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
 
 import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.genre.GenreRowMapper;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public abstract class ListGenreUseCase extends UseCase<SearchQuery, Pagination<GenreListOutput>> {
+
+    public abstract <T> Pagination<T> execute(SearchQuery aQuery, GenreRowMapper<T> aMapper);
+
+    public final <T> CompletableFuture<Pagination<T>> executeAsync(
+            final SearchQuery aQuery,
+            final GenreRowMapper<T> aMapper,
+            final Executor anExecutor
+    ) {
+        return CompletableFuture.supplyAsync(() -> execute(aQuery, aMapper), anExecutor);
+    }
 }
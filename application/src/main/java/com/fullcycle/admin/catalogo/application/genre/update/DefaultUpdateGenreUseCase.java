@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.application.genre.update;
 
+import com.fullcycle.admin.catalogo.application.genre.GenreCategoriesValidator;
 import com.fullcycle.admin.catalogo.domain.Identifier;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
@@ -8,27 +9,30 @@ import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
-import com.fullcycle.admin.catalogo.domain.validation.Error;
-import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
+
+import static com.fullcycle.admin.catalogo.application.genre.GenreCategoriesValidator.await;
 
 public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
 
-    private final CategoryGateway categoryGateway;
     private final GenreGateway genreGateway;
+    private final GenreCategoriesValidator categoriesValidator;
+    private final Executor executor;
 
     public DefaultUpdateGenreUseCase(
             final CategoryGateway categoryGateway,
-            final GenreGateway genreGateway
+            final GenreGateway genreGateway,
+            final Executor executor
     ) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.executor = Objects.requireNonNull(executor);
+        this.categoriesValidator = new GenreCategoriesValidator(categoryGateway, executor);
     }
 
     @Override
@@ -38,11 +42,14 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
         final var isActive = aCommand.isActive();
         final var categories = toCategoryId(aCommand.categories());
 
-        final var aGenre = this.genreGateway.findById(anId)
+        final var aGenreLookup = CompletableFuture.supplyAsync(() -> this.genreGateway.findById(anId), this.executor);
+        final var categoriesValidation = this.categoriesValidator.validateAsync(categories);
+
+        final var aGenre = await(aGenreLookup)
                 .orElseThrow(notFound(anId));
 
         final var notification = Notification.create();
-        notification.append(validateCategories(categories));
+        notification.append(await(categoriesValidation));
         notification.validate(() -> aGenre.update(aName, isActive, categories));
 
         if (notification.hasErrors()) {
@@ -52,25 +59,6 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
         return UpdateGenreOutput.from(this.genreGateway.update(aGenre));
     }
 
-    private ValidationHandler validateCategories(final List<CategoryID> ids) {
-        final var notification = Notification.create();
-
-        if (ids == null || ids.isEmpty()) return notification;
-
-        final var retrievedIds = categoryGateway.existsByIds(ids);
-        if (ids.size() != retrievedIds.size()) {
-            final var commandsIds = new ArrayList<>(ids);
-            commandsIds.removeAll(retrievedIds);
-
-            final var missingIdsMessage = commandsIds.stream()
-                    .map(CategoryID::getValue)
-                    .collect(Collectors.joining(", "));
-
-            notification.append(new Error("Some categories could not be found: %s".formatted(missingIdsMessage)));
-        }
-        return notification;
-    }
-
     private Supplier<NotFoundException> notFound(final Identifier anId) {
         return () -> NotFoundException.with(Genre.class, anId);
     }
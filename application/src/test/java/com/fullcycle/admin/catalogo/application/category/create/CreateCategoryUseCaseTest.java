@@ -64,6 +64,29 @@ class CreateCategoryUseCaseTest extends UseCaseTest {
         ));
     }
 
+    @Test
+    void givenAValidCommand_whenCallsCreateCategoryAsync_thenShouldCompleteWithCategoryId() {
+        final var expectedName = "Filmes";
+        final var expectedDescription = "A categoria mais assistida";
+        final var expectedIsActive = true;
+
+        final var aCommand = CreateCategoryCommand.with(
+                expectedName,
+                expectedDescription,
+                expectedIsActive
+        );
+
+        Mockito.when(categoryGateway.create(any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.executeAsync(aCommand, Runnable::run).join().get();
+
+        Assertions.assertNotNull(actualOutput);
+        Assertions.assertNotNull(actualOutput.id());
+
+        Mockito.verify(categoryGateway, times(1)).create(any());
+    }
+
     @Test
     void givenAInvalidName_whenCallsCreateCategory_thenShouldReturnDomainException() {
         final String expectedName = null;
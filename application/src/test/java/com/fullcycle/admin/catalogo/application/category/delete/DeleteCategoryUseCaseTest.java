@@ -12,6 +12,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.concurrent.CompletionException;
 
 import static org.mockito.Mockito.times;
 
@@ -55,6 +56,22 @@ class DeleteCategoryUseCaseTest extends UseCaseTest {
         Mockito.verify(categoryGateway, times(1)).deleteById(expectedId);
     }
 
+    @Test
+    void givenAValidId_whenGatewayThrowsExceptionAsync_shouldCompleteExceptionally() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+
+        Mockito.doThrow(new IllegalStateException("Gateway error"))
+                .when(categoryGateway).deleteById(expectedId);
+
+        final var actualFuture = useCase.executeAsync(expectedId.getValue(), Runnable::run);
+
+        final var actualException = Assertions.assertThrows(CompletionException.class, actualFuture::join);
+        Assertions.assertEquals("Gateway error", actualException.getCause().getMessage());
+
+        Mockito.verify(categoryGateway, times(1)).deleteById(expectedId);
+    }
+
     @Test
     void givenAValidId_whenGatewayThrowsException_shouldReturnException() {
         final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
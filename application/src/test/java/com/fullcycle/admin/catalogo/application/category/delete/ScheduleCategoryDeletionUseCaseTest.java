@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.application.category.delete;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+
+class ScheduleCategoryDeletionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultScheduleCategoryDeletionUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    void givenAValidId_whenCallsScheduleCategoryDeletion_shouldDeactivateAndScheduleIt() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+
+        Mockito.when(categoryGateway.findById(expectedId))
+                .thenReturn(Optional.of(Category.with(aCategory)));
+
+        Assertions.assertDoesNotThrow(() -> useCase.execute(expectedId.getValue()));
+
+        Mockito.verify(categoryGateway, times(1)).scheduleDeletion(argThat(aScheduled ->
+                expectedId.equals(aScheduled.getId())
+                && !aScheduled.isActive()
+                && aScheduled.getDeletedAt() != null
+        ));
+        Mockito.verify(categoryGateway, Mockito.never()).deleteById(any());
+    }
+
+    @Test
+    void givenAnInvalidId_whenCallsScheduleCategoryDeletion_shouldBeOk() {
+        final var expectedId = CategoryID.from("123");
+
+        Mockito.when(categoryGateway.findById(expectedId))
+                .thenReturn(Optional.empty());
+
+        Assertions.assertDoesNotThrow(() -> useCase.execute(expectedId.getValue()));
+
+        Mockito.verify(categoryGateway, Mockito.never()).scheduleDeletion(any());
+    }
+}
@@ -3,6 +3,8 @@ package com.fullcycle.admin.catalogo.application.category.retrieve.list;
 import com.fullcycle.admin.catalogo.application.UseCaseTest;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryRow;
+import com.fullcycle.admin.catalogo.domain.category.CategoryRowMapper;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import org.junit.jupiter.api.Test;
@@ -114,6 +116,21 @@ class ListCategoriesUseCaseTest extends UseCaseTest {
         assertEquals(categories.size(), actualResult.total());
     }
 
+    @Test
+    void givenAValidQueryAndRowMapper_whenCallsListCategories_thenShouldDelegateTheMapperToTheGateway() {
+        final var aQuery = new SearchQuery(0, 10, "", "createdAt", "asc");
+        final CategoryRowMapper<String> aMapper = CategoryRow::name;
+        final var expectedResult = new Pagination<>(0, 10, 1, List.of("Filmes"));
+
+        Mockito.when(categoryGateway.findAll(aQuery, aMapper))
+                .thenReturn(expectedResult);
+
+        final var actualResult = useCase.execute(aQuery, aMapper);
+
+        assertEquals(expectedResult, actualResult);
+        Mockito.verify(categoryGateway, Mockito.never()).findAll(aQuery);
+    }
+
     @Test
     void givenAValidQuery_whenGatewayThrowsException_shouldReturnException() {
         final var expectedPage = 0;
@@ -0,0 +1,109 @@
+package com.fullcycle.admin.catalogo.application.genre;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+
+class GenreCategoriesValidatorTest extends UseCaseTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void givenMoreIdsThanChunkSize_whenCallsValidate_shouldLookUpEachChunkAndAggregateMissingIds() {
+        //given
+        final var validator = new GenreCategoriesValidator(categoryGateway, executor, 2);
+
+        final var categoryOne = CategoryID.from("123");
+        final var categoryTwo = CategoryID.from("456");
+        final var categoryThree = CategoryID.from("789");
+        final var categoryFour = CategoryID.from("012");
+        final var categoryFive = CategoryID.from("345");
+
+        final var expectedErrorCount = 1;
+        final var expectedErrorMessage = "Some categories could not be found: 456, 012";
+
+        Mockito.when(categoryGateway.existsByIds(eq(List.of(categoryOne, categoryTwo))))
+                .thenReturn(List.of(categoryOne));
+        Mockito.when(categoryGateway.existsByIds(eq(List.of(categoryThree, categoryFour))))
+                .thenReturn(List.of(categoryThree));
+        Mockito.when(categoryGateway.existsByIds(eq(List.of(categoryFive))))
+                .thenReturn(List.of(categoryFive));
+
+        //when
+        final var actualResult = validator.validate(
+                List.of(categoryOne, categoryTwo, categoryThree, categoryFour, categoryFive)
+        );
+
+        //then
+        Assertions.assertEquals(expectedErrorCount, actualResult.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, actualResult.getErrors().get(0).message());
+
+        Mockito.verify(categoryGateway, times(3)).existsByIds(any());
+    }
+
+    @Test
+    void givenEmptyIds_whenCallsValidate_shouldNotCallGateway() {
+        //given
+        final var validator = new GenreCategoriesValidator(categoryGateway, executor);
+
+        //when
+        final var actualResult = validator.validate(List.of());
+
+        //then
+        Assertions.assertFalse(actualResult.hasErrors());
+        Mockito.verify(categoryGateway, times(0)).existsByIds(any());
+    }
+
+    @Test
+    void givenAGatewayError_whenCallsValidate_shouldRethrowTheOriginalException() {
+        //given
+        final var validator = new GenreCategoriesValidator(categoryGateway, executor, 1);
+        final var expectedErrorMessage = "Gateway error";
+
+        Mockito.when(categoryGateway.existsByIds(any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> validator.validate(List.of(CategoryID.from("123"), CategoryID.from("456")))
+        );
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void givenAnInvalidChunkSize_whenCreatesValidator_shouldThrowIllegalArgumentException() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new GenreCategoriesValidator(categoryGateway, executor, 0)
+        );
+    }
+}
@@ -5,16 +5,19 @@ import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,7 +26,8 @@ import static org.mockito.Mockito.times;
 @ExtendWith(MockitoExtension.class)
 class CreateGenreUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
     private DefaultCreateGenreUseCase useCase;
 
     @Mock
@@ -32,6 +36,16 @@ class CreateGenreUseCaseTest extends UseCaseTest {
     @Mock
     private GenreGateway genreGateway;
 
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultCreateGenreUseCase(categoryGateway, genreGateway, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
     @Override
     protected List<Object> getMocks() {
         return List.of(categoryGateway, genreGateway);
@@ -0,0 +1,85 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.category;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+class ListGenresByCategoryUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultListGenresByCategoryUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    void givenASingleCategoryId_whenCallsListGenresByCategory_shouldLookUpThatCategory() {
+        // given
+        final var aQuery = new SearchQuery(0, 10, "", "", "");
+        final var expectedCategoryId = CategoryID.from("123");
+        final var expectedGenreId = GenreID.unique();
+
+        Mockito.when(genreGateway.findByCategory(eq(expectedCategoryId), eq(aQuery)))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(expectedGenreId)));
+
+        // when
+        final var actualOutput = useCase.execute(ListGenresByCategoryCommand.with(List.of("123", "123"), aQuery));
+
+        // then
+        Assertions.assertEquals(1, actualOutput.total());
+        Assertions.assertEquals(List.of(expectedGenreId.getValue()), actualOutput.items());
+
+        Mockito.verify(genreGateway, Mockito.never()).findByCategories(any(), any());
+    }
+
+    @Test
+    void givenManyCategoryIds_whenCallsListGenresByCategory_shouldLookThemUpInBulk() {
+        // given
+        final var aQuery = new SearchQuery(0, 10, "", "", "");
+        final var expectedCategoryIds = List.of(CategoryID.from("123"), CategoryID.from("456"));
+
+        Mockito.when(genreGateway.findByCategories(eq(expectedCategoryIds), eq(aQuery)))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        // when
+        final var actualOutput = useCase.execute(ListGenresByCategoryCommand.with(List.of("123", "456"), aQuery));
+
+        // then
+        Assertions.assertEquals(0, actualOutput.total());
+
+        Mockito.verify(genreGateway, Mockito.never()).findByCategory(any(), any());
+    }
+
+    @Test
+    void givenNoCategoryIds_whenCallsListGenresByCategory_shouldNotCallTheGateway() {
+        // given
+        final var aQuery = new SearchQuery(0, 10, "", "", "");
+
+        // when
+        final var actualOutput = useCase.execute(ListGenresByCategoryCommand.with(null, aQuery));
+
+        // then
+        Assertions.assertEquals(0, actualOutput.total());
+        Assertions.assertTrue(actualOutput.items().isEmpty());
+
+        Mockito.verifyNoInteractions(genreGateway);
+    }
+}
@@ -3,6 +3,8 @@ package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
 import com.fullcycle.admin.catalogo.application.UseCaseTest;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreRow;
+import com.fullcycle.admin.catalogo.domain.genre.GenreRowMapper;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import org.junit.jupiter.api.Assertions;
@@ -112,6 +114,24 @@ class ListGenreUseCaseTest extends UseCaseTest {
         Mockito.verify(genreGateway, times(1)).findAll(aQuery);
     }
 
+    @Test
+    void givenAValidQueryAndRowMapper_whenCallsListGenre_shouldDelegateTheMapperToTheGateway() {
+        // given
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+        final GenreRowMapper<Integer> aMapper = GenreRow::categoriesCount;
+        final var expectedResult = new Pagination<>(0, 10, 1, List.of(3));
+
+        Mockito.when(genreGateway.findAll(aQuery, aMapper))
+                .thenReturn(expectedResult);
+
+        // when
+        final var actualResult = useCase.execute(aQuery, aMapper);
+
+        // then
+        Assertions.assertEquals(expectedResult, actualResult);
+        Mockito.verify(genreGateway, Mockito.never()).findAll(aQuery);
+    }
+
     @Test
     void givenAValidQuery_whenCallsListGenreAndGatewayThrowsRandomError_shouldReturnException() {
         // given
@@ -3,19 +3,25 @@ package com.fullcycle.admin.catalogo.application.genre.update;
 import com.fullcycle.admin.catalogo.application.UseCaseTest;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.Optional;
 
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -26,7 +32,8 @@ import static org.mockito.Mockito.times;
 @ExtendWith(MockitoExtension.class)
 class UpdateGenreUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
     private DefaultUpdateGenreUseCase useCase;
 
     @Mock
@@ -35,6 +42,16 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
     @Mock
     private GenreGateway genreGateway;
 
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultUpdateGenreUseCase(categoryGateway, genreGateway, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
     @Override
     protected List<Object> getMocks() {
         return List.of(categoryGateway, genreGateway);
@@ -233,6 +250,67 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
         Mockito.verify(genreGateway, times(0)).update(any());
     }
 
+    @Test
+    void givenAValidCommandWithCategories_whenCallsUpdateGenre_shouldLookUpGenreAndCategoriesConcurrently() throws Exception {
+        //given
+        final var aGenre = Genre.newGenre("acao", true);
+
+        final var expectedId = aGenre.getId();
+        final var expectedCategories = List.of(CategoryID.from("123"), CategoryID.from("456"));
+
+        final var aCommand = UpdateGenreCommand.with(
+                expectedId.getValue(),
+                "Ação",
+                true,
+                asString(expectedCategories)
+        );
+
+        final var bothStarted = new CyclicBarrier(2);
+
+        Mockito.when(genreGateway.findById(any()))
+                .thenAnswer(t -> {
+                    bothStarted.await(5, TimeUnit.SECONDS);
+                    return Optional.of(Genre.with(aGenre));
+                });
+        Mockito.when(categoryGateway.existsByIds(any()))
+                .thenAnswer(t -> {
+                    bothStarted.await(5, TimeUnit.SECONDS);
+                    return expectedCategories;
+                });
+        Mockito.when(genreGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        //when
+        final var actualOutput = useCase.execute(aCommand);
+
+        //then
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
+        Mockito.verify(genreGateway, times(1)).findById(eq(expectedId));
+        Mockito.verify(categoryGateway, times(1)).existsByIds(eq(expectedCategories));
+    }
+
+    @Test
+    void givenAnInvalidId_whenCallsUpdateGenre_shouldReturnNotFoundException() {
+        //given
+        final var expectedId = "123";
+        final var expectedErrorMessage = "Genre with ID 123 was not found";
+
+        final var aCommand = UpdateGenreCommand.with(expectedId, "Ação", true, List.of("456"));
+
+        Mockito.when(genreGateway.findById(any()))
+                .thenReturn(Optional.empty());
+
+        //when
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(aCommand)
+        );
+
+        //then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Mockito.verify(genreGateway, times(0)).update(any());
+    }
+
     private List<String> asString(final List<CategoryID> categories) {
         return categories.stream()
                 .map(CategoryID::getValue)
@@ -0,0 +1,97 @@
+package com.fullcycle.admin.catalogo.domain.pagination;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryRow;
+import com.fullcycle.admin.catalogo.domain.category.CategoryRowMapper;
+import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/*
+ * One page of the category list endpoint: entity rows mapped through aggregate, use case output and API response,
+ * versus rows mapped straight into the response. Output and Response mirror CategoryListOutput and
+ * CategoryListResponse, which live in outer modules. Run with -prof gc.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListMappingBenchmark {
+
+    @Param({"10", "50"})
+    public int perPage;
+
+    private List<Row> rows;
+
+    @Setup
+    public void setUp() {
+        this.rows = new ArrayList<>(perPage);
+        for (int i = 0; i < perPage; i++) {
+            final var now = Instant.now();
+            this.rows.add(new Row(CategoryID.unique().getValue(), "Filmes " + i, "A categoria mais assistida", true, now, now, null));
+        }
+    }
+
+    @Benchmark
+    public Pagination<Response> layeredStreams() {
+        final var aggregates = new Pagination<>(0, perPage, 1000, this.rows.stream().map(Row::toAggregate).toList());
+        final var outputs = streamMap(aggregates, Output::from);
+        return streamMap(outputs, Response::from);
+    }
+
+    @Benchmark
+    public Pagination<Response> layeredPresized() {
+        final var aggregates = new Pagination<>(0, perPage, 1000, CollectionUtils.mapTo(this.rows, Row::toAggregate));
+        return aggregates.map(Output::from).map(Response::from);
+    }
+
+    @Benchmark
+    public Pagination<Response> fused() {
+        final CategoryRowMapper<Response> aMapper = Response::from;
+        return new Pagination<>(0, perPage, 1000, CollectionUtils.mapTo(this.rows, aMapper::map));
+    }
+
+    private static <T, R> Pagination<R> streamMap(final Pagination<T> aPage, final Function<T, R> aMapper) {
+        return new Pagination<>(aPage.currentPage(), aPage.perPage(), aPage.total(), aPage.items().stream().map(aMapper).toList());
+    }
+
+    record Row(String id, String name, String description, boolean active, Instant createdAt, Instant updatedAt, Instant deletedAt) implements CategoryRow {
+        Category toAggregate() {
+            return Category.with(CategoryID.from(id), name, description, active, createdAt, updatedAt, deletedAt);
+        }
+    }
+
+    record Output(CategoryID id, String name, String description, boolean isActive, Instant createdAt, Instant deletedAt) {
+        static Output from(final Category aCategory) {
+            return new Output(aCategory.getId(), aCategory.getName(), aCategory.getDescription(), aCategory.isActive(), aCategory.getCreatedAt(), aCategory.getDeletedAt());
+        }
+    }
+
+    record Response(String id, String name, String description, Boolean active, Instant createdAt, Instant deletedAt) {
+        static Response from(final Output anOutput) {
+            return new Response(anOutput.id().getValue(), anOutput.name(), anOutput.description(), anOutput.isActive(), anOutput.createdAt(), anOutput.deletedAt());
+        }
+
+        static Response from(final CategoryRow aRow) {
+            return new Response(aRow.id(), aRow.name(), aRow.description(), aRow.active(), aRow.createdAt(), aRow.deletedAt());
+        }
+    }
+}
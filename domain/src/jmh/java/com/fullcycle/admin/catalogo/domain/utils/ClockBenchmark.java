@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Bulk import rates: every thread creates and updates categories back to back. Run with -prof gc.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ClockBenchmark {
+
+    @Param({"system", "coarse"})
+    public String clock;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("coarse".equals(clock)) {
+            InstantUtils.useClock(CoarseClock.of(Clock.systemUTC()));
+        } else {
+            InstantUtils.useSystemClock();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        InstantUtils.useSystemClock();
+    }
+
+    @Benchmark
+    public Instant now() {
+        return InstantUtils.now();
+    }
+
+    @Benchmark
+    public Category createAndDeactivateCategory() {
+        return Category.newCategory("Filmes", "A categoria mais assistida", true)
+                .update("Filmes", "A categoria mais assistida", false);
+    }
+}
@@ -0,0 +1,125 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Inserts ids into a model of the leaf level of an InnoDB clustered index (BINARY(16) keys, 16 KB pages)
+ * and reports page splits and the resulting fill factor. Aux counters add up across iterations, hence a single one.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IndexInsertionBenchmark {
+
+    @Param({"random", "timeOrdered"})
+    public String generator;
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"400"})
+    public int rowsPerPage;
+
+    private List<Key> keys;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        this.keys = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            final var anId = "random".equals(generator) ? UUID.randomUUID() : UuidUtils.timeOrdered();
+            this.keys.add(new Key(anId.getMostSignificantBits(), anId.getLeastSignificantBits()));
+        }
+    }
+
+    @Benchmark
+    public LeafLevel insert(final IndexCounters counters) {
+        final var index = new LeafLevel(rowsPerPage);
+        this.keys.forEach(index::insert);
+
+        counters.pages = index.pages.size();
+        counters.pageSplits = index.splits;
+        counters.fillPercent = 100.0 * rows / ((double) index.pages.size() * rowsPerPage);
+        return index;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class IndexCounters {
+        public long pages;
+        public long pageSplits;
+        public double fillPercent;
+    }
+
+    record Key(long mostSigBits, long leastSigBits) implements Comparable<Key> {
+        @Override
+        public int compareTo(final Key other) {
+            final var result = Long.compareUnsigned(mostSigBits, other.mostSigBits);
+            return result != 0 ? result : Long.compareUnsigned(leastSigBits, other.leastSigBits);
+        }
+    }
+
+    static final class LeafLevel {
+
+        private final int capacity;
+        private final TreeMap<Key, List<Key>> pages = new TreeMap<>();
+        private long splits;
+
+        LeafLevel(final int capacity) {
+            this.capacity = capacity;
+        }
+
+        void insert(final Key aKey) {
+            final var entry = pages.floorEntry(aKey);
+            if (entry == null && pages.isEmpty()) {
+                final var aPage = new ArrayList<Key>(capacity);
+                aPage.add(aKey);
+                pages.put(aKey, aPage);
+                return;
+            }
+
+            final var firstKey = entry != null ? entry.getKey() : pages.firstKey();
+            final var aPage = entry != null ? entry.getValue() : pages.get(firstKey);
+            final var position = -Collections.binarySearch(aPage, aKey) - 1;
+            aPage.add(position, aKey);
+
+            if (entry == null) {
+                pages.remove(firstKey);
+                pages.put(aKey, aPage);
+            }
+
+            if (aPage.size() > capacity) {
+                split(aPage, position == aPage.size() - 1 && pages.lastEntry().getValue() == aPage);
+            }
+        }
+
+        private void split(final List<Key> aPage, final boolean isAppend) {
+            splits++;
+            final var from = isAppend ? aPage.size() - 1 : aPage.size() / 2;
+            final var moved = new ArrayList<>(aPage.subList(from, aPage.size()));
+            aPage.subList(from, aPage.size()).clear();
+            pages.put(moved.get(0), moved);
+        }
+    }
+}
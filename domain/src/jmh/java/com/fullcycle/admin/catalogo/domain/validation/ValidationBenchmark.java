@@ -0,0 +1,73 @@
+package com.fullcycle.admin.catalogo.domain.validation;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Run with -prof gc to compare gc.alloc.rate.norm (bytes per operation) of the validation paths.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationBenchmark {
+
+    private Category category;
+    private Genre genre;
+    private List<CategoryID> categories;
+
+    @Setup
+    public void setUp() {
+        this.category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        this.categories = List.of(CategoryID.unique(), CategoryID.unique());
+        this.genre = Genre.newGenre("Ação", true).addCategories(this.categories);
+    }
+
+    @Benchmark
+    public boolean validateCategory() {
+        final var notification = Notification.create();
+        this.category.validate(notification);
+        return notification.hasErrors();
+    }
+
+    @Benchmark
+    public boolean createCategory() {
+        final var notification = Notification.create();
+        Category.newCategory("Filmes", "A categoria mais assistida", true).validate(notification);
+        return notification.hasErrors();
+    }
+
+    @Benchmark
+    public boolean updateCategory() {
+        final var notification = Notification.create();
+        Category.with(this.category).update(" Filmes ", "A categoria mais assistida", true).validate(notification);
+        return notification.hasErrors();
+    }
+
+    @Benchmark
+    public Genre createGenre() {
+        return Genre.newGenre("Ação", true);
+    }
+
+    @Benchmark
+    public Genre updateGenre() {
+        return Genre.with(this.genre).update("Aventura", true, this.categories);
+    }
+}
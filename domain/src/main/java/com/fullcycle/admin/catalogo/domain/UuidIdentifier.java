@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalogo.domain;
+
+import com.fullcycle.admin.catalogo.domain.utils.UuidUtils;
+
+import java.util.Locale;
+import java.util.Objects;
+
+public abstract class UuidIdentifier extends Identifier {
+
+    private final long mostSigBits;
+    private final long leastSigBits;
+    private final boolean compact;
+    private String value;
+
+    protected UuidIdentifier(final String aValue) {
+        Objects.requireNonNull(aValue);
+        this.compact = UuidUtils.isUuid(aValue);
+        this.mostSigBits = this.compact ? UuidUtils.mostSignificantBits(aValue) : 0L;
+        this.leastSigBits = this.compact ? UuidUtils.leastSignificantBits(aValue) : 0L;
+        this.value = this.compact ? aValue.toLowerCase(Locale.ROOT) : aValue;
+    }
+
+    protected UuidIdentifier(final long mostSigBits, final long leastSigBits) {
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
+        this.compact = true;
+    }
+
+    @Override
+    public String getValue() {
+        var aValue = this.value;
+        if (aValue == null) {
+            aValue = UuidUtils.toString(this.mostSigBits, this.leastSigBits);
+            this.value = aValue;
+        }
+        return aValue;
+    }
+
+    public boolean isCompact() {
+        return compact;
+    }
+
+    public long getMostSignificantBits() {
+        return mostSigBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSigBits;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final var that = (UuidIdentifier) o;
+        if (this.compact && that.compact) {
+            return this.mostSigBits == that.mostSigBits && this.leastSigBits == that.leastSigBits;
+        }
+        return this.compact == that.compact && getValue().equals(that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.compact ? Long.hashCode(this.mostSigBits ^ this.leastSigBits) : this.value.hashCode();
+    }
+}
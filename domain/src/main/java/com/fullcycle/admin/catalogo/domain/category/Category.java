@@ -88,22 +88,30 @@ public class Category extends AggregateRoot<CategoryID> {
 
     @Override
     public void validate(final ValidationHandler handler) {
-        new CategoryValidator(this, handler).validate();
+        CategoryValidator.instance().validate(this, handler);
     }
 
     public Category activate() {
+        return activate(InstantUtils.now());
+    }
+
+    public Category deactivate() {
+        return deactivate(InstantUtils.now());
+    }
+
+    private Category activate(final Instant now) {
         this.deletedAt = null;
         this.active = true;
-        this.updatedAt = InstantUtils.now();
+        this.updatedAt = now;
         return this;
     }
 
-    public Category deactivate() {
+    private Category deactivate(final Instant now) {
         if (getDeletedAt() == null)
-            this.deletedAt = InstantUtils.now();
+            this.deletedAt = now;
 
         this.active = false;
-        this.updatedAt = InstantUtils.now();
+        this.updatedAt = now;
 
         return this;
     }
@@ -113,13 +121,15 @@ public class Category extends AggregateRoot<CategoryID> {
             final String aDescription,
             final boolean isActive
     ) {
+        final var now = InstantUtils.now();
+
         this.name = aName;
         this.description = aDescription;
 
         if (isActive) {
-            activate();
+            activate(now);
         } else {
-            deactivate();
+            deactivate(now);
         }
 
         return this;
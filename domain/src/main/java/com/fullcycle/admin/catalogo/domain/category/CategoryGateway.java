@@ -11,11 +11,17 @@ public interface CategoryGateway {
 
     void deleteById(CategoryID anId);
 
+    int deleteAllById(Iterable<CategoryID> ids);
+
+    void scheduleDeletion(Category aCategory);
+
     Optional<Category> findById(CategoryID anId);
 
     Category update(Category aCategory);
 
     Pagination<Category> findAll(SearchQuery aQuery);
 
+    <T> Pagination<T> findAll(SearchQuery aQuery, CategoryRowMapper<T> aMapper);
+
     List<CategoryID> existsByIds(Iterable<CategoryID> ids);
 }
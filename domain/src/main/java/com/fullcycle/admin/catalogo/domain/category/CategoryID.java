@@ -1,21 +1,22 @@
 package com.fullcycle.admin.catalogo.domain.category;
 
-import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.UuidIdentifier;
+import com.fullcycle.admin.catalogo.domain.utils.UuidUtils;
 
-import java.util.Objects;
 import java.util.UUID;
 
-public class CategoryID extends Identifier {
-
-    private final String value;
+public class CategoryID extends UuidIdentifier {
 
     public CategoryID(final String value) {
-        Objects.requireNonNull(value);
-        this.value = value;
+        super(value);
+    }
+
+    private CategoryID(final long mostSigBits, final long leastSigBits) {
+        super(mostSigBits, leastSigBits);
     }
 
     public static CategoryID unique() {
-        return CategoryID.from(UUID.randomUUID());
+        return CategoryID.from(UuidUtils.timeOrdered());
     }
 
     public static CategoryID from(final String anId) {
@@ -23,24 +24,6 @@ public class CategoryID extends Identifier {
     }
 
     public static CategoryID from(final UUID anId) {
-        return new CategoryID(anId.toString().toLowerCase());
-    }
-
-    @Override
-    public String getValue() {
-        return value;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        CategoryID that = (CategoryID) o;
-        return getValue().equals(that.getValue());
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(getValue());
+        return new CategoryID(anId.getMostSignificantBits(), anId.getLeastSignificantBits());
     }
 }
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+/*
+ * A category as the list query reads it, without building the aggregate. Mappers read it by name, so adding or
+ * reordering columns cannot shift values into the wrong field.
+ */
+public interface CategoryRow {
+
+    String id();
+
+    String name();
+
+    String description();
+
+    boolean active();
+
+    Instant createdAt();
+
+    Instant deletedAt();
+}
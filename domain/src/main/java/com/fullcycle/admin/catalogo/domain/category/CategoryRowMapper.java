@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+@FunctionalInterface
+public interface CategoryRowMapper<T> {
+
+    T map(CategoryRow aRow);
+}
@@ -4,37 +4,46 @@ import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
 import com.fullcycle.admin.catalogo.domain.validation.Validator;
 
-public class CategoryValidator extends Validator {
+public class CategoryValidator extends Validator<Category> {
 
     public static final int NAME_MAX_LENGTH = 255;
     public static final int NAME_MIN_LENGTH = 3;
-    private final Category category;
+    public static final int DESCRIPTION_MAX_LENGTH = 4000;
 
-    public CategoryValidator(final Category aCategory, ValidationHandler aHandler) {
-        super(aHandler);
-        this.category = aCategory;
+    private static final CategoryValidator INSTANCE = new CategoryValidator();
+
+    private CategoryValidator() {}
+
+    public static CategoryValidator instance() {
+        return INSTANCE;
     }
 
     @Override
-    public void validate() {
-        checkNameConstraints();
+    public void validate(final Category aCategory, final ValidationHandler aHandler) {
+        checkNameConstraints(aCategory.getName(), aHandler);
+        checkDescriptionConstraints(aCategory.getDescription(), aHandler);
     }
 
-    private void checkNameConstraints() {
-        final var name = this.category.getName();
+    private void checkNameConstraints(final String name, final ValidationHandler aHandler) {
         if(name == null) {
-            this.validationHandler().append(new Error("'name' should not be null"));
+            aHandler.append(new Error("'name' should not be null"));
             return;
         }
 
         if(name.isBlank()) {
-            this.validationHandler().append(new Error("'name' should not be empty"));
+            aHandler.append(new Error("'name' should not be empty"));
             return;
         }
 
-        final int length = name.trim().length();
+        final int length = trimmedLength(name);
         if(length > NAME_MAX_LENGTH || length < NAME_MIN_LENGTH) {
-            this.validationHandler().append(new Error("'name' must be between 3 and 255 characters"));
+            aHandler.append(new Error("'name' must be between 3 and 255 characters"));
+        }
+    }
+
+    private void checkDescriptionConstraints(final String description, final ValidationHandler aHandler) {
+        if(description != null && description.length() > DESCRIPTION_MAX_LENGTH) {
+            aHandler.append(new Error("'description' must be at most 4000 characters"));
         }
     }
 }
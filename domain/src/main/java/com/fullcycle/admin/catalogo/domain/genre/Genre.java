@@ -8,9 +8,10 @@ import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import static java.util.Collections.emptyList;
 
@@ -18,7 +19,8 @@ public class Genre extends AggregateRoot<GenreID> {
 
     private String name;
     private boolean active;
-    private List<CategoryID> categories;
+    private Set<CategoryID> categories;
+    private List<CategoryID> categoriesView;
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
@@ -35,7 +37,7 @@ public class Genre extends AggregateRoot<GenreID> {
         super(anId);
         this.name = aName;
         this.active = isActive;
-        this.categories = categories;
+        this.categories = toSet(categories);
         this.createdAt = aCreatedAt;
         this.updatedAt = anUpdatedAt;
         this.deletedAt = aDeletedAt;
@@ -55,7 +57,9 @@ public class Genre extends AggregateRoot<GenreID> {
     public Genre addCategory(final CategoryID aCategoryID) {
         if (aCategoryID == null) return this;
 
-        this.categories.add(aCategoryID);
+        if (this.categories.add(aCategoryID)) {
+            this.categoriesView = null;
+        }
         this.updatedAt = InstantUtils.now();
         return this;
     }
@@ -63,7 +67,11 @@ public class Genre extends AggregateRoot<GenreID> {
     public Genre addCategories(final List<CategoryID> categories) {
         if (categories == null || categories.isEmpty()) return this;
 
-        this.categories.addAll(categories);
+        for (final var aCategoryID : categories) {
+            if (aCategoryID != null && this.categories.add(aCategoryID)) {
+                this.categoriesView = null;
+            }
+        }
         this.updatedAt = InstantUtils.now();
 
         return this;
@@ -72,11 +80,34 @@ public class Genre extends AggregateRoot<GenreID> {
     public Genre removeCategory(final CategoryID aCategoryID) {
         if (aCategoryID == null) return this;
 
-        this.categories.remove(aCategoryID);
+        if (this.categories.remove(aCategoryID)) {
+            this.categoriesView = null;
+        }
+        this.updatedAt = InstantUtils.now();
+        return this;
+    }
+
+    public Genre removeCategories(final Collection<CategoryID> categories) {
+        if (categories == null || categories.isEmpty()) return this;
+
+        for (final var aCategoryID : categories) {
+            if (this.categories.remove(aCategoryID)) {
+                this.categoriesView = null;
+            }
+        }
         this.updatedAt = InstantUtils.now();
+
         return this;
     }
 
+    public boolean containsCategory(final CategoryID aCategoryID) {
+        return this.categories.contains(aCategoryID);
+    }
+
+    public GenreCategoriesDiff categoriesDiff(final Collection<CategoryID> previousCategories) {
+        return GenreCategoriesDiff.between(previousCategories, this.categories);
+    }
+
     public static Genre newGenre(final String aName, final boolean isActive) {
         final var anId = GenreID.unique();
         final var now = InstantUtils.now();
@@ -86,7 +117,7 @@ public class Genre extends AggregateRoot<GenreID> {
                 anId,
                 aName,
                 isActive,
-                new ArrayList<>(),
+                emptyList(),
                 now,
                 now,
                 deletedAt
@@ -118,7 +149,7 @@ public class Genre extends AggregateRoot<GenreID> {
                 aGenre.id,
                 aGenre.name,
                 aGenre.active,
-                new ArrayList<>(aGenre.categories),
+                aGenre.getCategories(),
                 aGenre.createdAt,
                 aGenre.updatedAt,
                 aGenre.deletedAt
@@ -127,19 +158,25 @@ public class Genre extends AggregateRoot<GenreID> {
 
     @Override
     public void validate(final ValidationHandler handler) {
-        new GenreValidator(this, handler).validate();
+        GenreValidator.instance().validate(this, handler);
     }
 
     public Genre activate() {
+        return activate(InstantUtils.now());
+    }
+
+    public Genre deactivate() {
+        return deactivate(InstantUtils.now());
+    }
+
+    private Genre activate(final Instant now) {
         this.deletedAt = null;
-        this.updatedAt = InstantUtils.now();
+        this.updatedAt = now;
         this.active = true;
         return this;
     }
 
-    public Genre deactivate() {
-        final var now = InstantUtils.now();
-
+    private Genre deactivate(final Instant now) {
         if (getDeletedAt() == null)
             this.deletedAt = now;
 
@@ -153,21 +190,33 @@ public class Genre extends AggregateRoot<GenreID> {
             final boolean isActive,
             final List<CategoryID> categories
     ) {
+        final var now = InstantUtils.now();
+
         if (isActive) {
-            activate();
+            activate(now);
         } else {
-            deactivate();
+            deactivate(now);
         }
 
         this.name = aName;
-        this.categories = new ArrayList<>(categories != null ? categories : emptyList());
-        this.updatedAt = InstantUtils.now();
+        this.categories = toSet(categories);
+        this.categoriesView = null;
 
         selfValidate();
 
         return this;
     }
 
+    private static Set<CategoryID> toSet(final Collection<CategoryID> categories) {
+        final var aSet = new LinkedHashSet<CategoryID>(categories != null ? categories.size() * 2 : 16);
+        if (categories != null) {
+            for (final var aCategoryID : categories) {
+                if (aCategoryID != null) aSet.add(aCategoryID);
+            }
+        }
+        return aSet;
+    }
+
     public String getName() {
         return name;
     }
@@ -177,7 +226,12 @@ public class Genre extends AggregateRoot<GenreID> {
     }
 
     public List<CategoryID> getCategories() {
-        return Collections.unmodifiableList(categories);
+        var aView = this.categoriesView;
+        if (aView == null) {
+            aView = List.copyOf(this.categories);
+            this.categoriesView = aView;
+        }
+        return aView;
     }
 
     public Instant getCreatedAt() {
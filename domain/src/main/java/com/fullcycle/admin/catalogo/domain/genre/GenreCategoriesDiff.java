@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo.domain.genre;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public record GenreCategoriesDiff(
+        Set<CategoryID> added,
+        Set<CategoryID> removed
+) {
+
+    public static GenreCategoriesDiff between(
+            final Collection<CategoryID> previousCategories,
+            final Set<CategoryID> currentCategories
+    ) {
+        final var previous = previousCategories instanceof Set<CategoryID> aSet ? aSet : new HashSet<>(previousCategories);
+
+        final var added = new LinkedHashSet<CategoryID>();
+        for (final var aCategoryID : currentCategories) {
+            if (!previous.contains(aCategoryID)) added.add(aCategoryID);
+        }
+
+        final var removed = new LinkedHashSet<CategoryID>();
+        for (final var aCategoryID : previous) {
+            if (!currentCategories.contains(aCategoryID)) removed.add(aCategoryID);
+        }
+
+        return new GenreCategoriesDiff(Collections.unmodifiableSet(added), Collections.unmodifiableSet(removed));
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+}
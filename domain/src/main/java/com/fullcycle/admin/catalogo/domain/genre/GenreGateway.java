@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.domain.genre;
 
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 
@@ -8,7 +9,11 @@ import java.util.Optional;
 public interface GenreGateway {
     Genre create(Genre genre);
     void deleteById(GenreID anId);
+    int deleteAllById(Iterable<GenreID> ids);
     Optional<Genre> findById(GenreID anId);
     Genre update(Genre aGenre);
     Pagination<Genre> findAll(SearchQuery aQuery);
+    <T> Pagination<T> findAll(SearchQuery aQuery, GenreRowMapper<T> aMapper);
+    Pagination<GenreID> findByCategory(CategoryID aCategoryId, SearchQuery aQuery);
+    Pagination<GenreID> findByCategories(Iterable<CategoryID> categoryIds, SearchQuery aQuery);
 }
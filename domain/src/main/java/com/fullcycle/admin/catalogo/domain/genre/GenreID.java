@@ -1,20 +1,22 @@
 package com.fullcycle.admin.catalogo.domain.genre;
 
-import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.UuidIdentifier;
+import com.fullcycle.admin.catalogo.domain.utils.UuidUtils;
 
-import java.util.Objects;
 import java.util.UUID;
 
-public class GenreID extends Identifier {
-    private final String value;
+public class GenreID extends UuidIdentifier {
 
     public GenreID(final String value) {
-        Objects.requireNonNull(value);
-        this.value = value;
+        super(value);
+    }
+
+    private GenreID(final long mostSigBits, final long leastSigBits) {
+        super(mostSigBits, leastSigBits);
     }
 
     public static GenreID unique() {
-        return GenreID.from(UUID.randomUUID());
+        return GenreID.from(UuidUtils.timeOrdered());
     }
 
     public static GenreID from(final String anId) {
@@ -22,24 +24,6 @@ public class GenreID extends Identifier {
     }
 
     public static GenreID from(final UUID anId) {
-        return new GenreID(anId.toString().toLowerCase());
-    }
-
-    @Override
-    public String getValue() {
-        return value;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        GenreID that = (GenreID) o;
-        return getValue().equals(that.getValue());
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(getValue());
+        return new GenreID(anId.getMostSignificantBits(), anId.getLeastSignificantBits());
     }
 }
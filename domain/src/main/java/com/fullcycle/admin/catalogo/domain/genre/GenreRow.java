@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.domain.genre;
+
+import java.time.Instant;
+
+/*
+ * A genre as the list query reads it, with its categories counted in SQL instead of loaded.
+ */
+public interface GenreRow {
+
+    String id();
+
+    String name();
+
+    boolean active();
+
+    int categoriesCount();
+
+    Instant createdAt();
+
+    Instant deletedAt();
+}
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.domain.genre;
+
+@FunctionalInterface
+public interface GenreRowMapper<T> {
+
+    T map(GenreRow aRow);
+}
@@ -4,38 +4,38 @@ import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
 import com.fullcycle.admin.catalogo.domain.validation.Validator;
 
-public class GenreValidator extends Validator {
+public class GenreValidator extends Validator<Genre> {
 
     public static final int NAME_MAX_LENGTH = 255;
     public static final int NAME_MIN_LENGTH = 3;
-    private final Genre genre;
 
-    protected GenreValidator(final Genre aGenre, final ValidationHandler aHandler) {
-        super(aHandler);
-        this.genre = aGenre;
+    private static final GenreValidator INSTANCE = new GenreValidator();
+
+    private GenreValidator() {}
+
+    public static GenreValidator instance() {
+        return INSTANCE;
     }
 
     @Override
-    public void validate() {
-        checkNameConstraints();
+    public void validate(final Genre aGenre, final ValidationHandler aHandler) {
+        checkNameConstraints(aGenre.getName(), aHandler);
     }
 
-    private void checkNameConstraints() {
-        final var name = this.genre.getName();
-
+    private void checkNameConstraints(final String name, final ValidationHandler aHandler) {
         if(name == null) {
-            this.validationHandler().append(new Error("'name' should not be null"));
+            aHandler.append(new Error("'name' should not be null"));
             return;
         }
 
         if(name.isBlank()) {
-            this.validationHandler().append(new Error("'name' should not be empty"));
+            aHandler.append(new Error("'name' should not be empty"));
             return;
         }
 
-        final int length = name.trim().length();
+        final int length = trimmedLength(name);
         if(length > NAME_MAX_LENGTH || length < NAME_MIN_LENGTH) {
-            this.validationHandler().append(new Error("'name' must be between 3 and 255 characters"));
+            aHandler.append(new Error("'name' must be between 3 and 255 characters"));
         }
     }
 }
@@ -1,5 +1,7 @@
 package com.fullcycle.admin.catalogo.domain.pagination;
 
+import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
+
 import java.util.List;
 import java.util.function.Function;
 
@@ -7,14 +9,15 @@ public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        String next
 ) {
 
-    public <R> Pagination<R> map(final Function<T, R> mapper) {
-        final List<R> aNewList = this.items.stream()
-                .map(mapper)
-                .toList();
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null);
+    }
 
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+    public <R> Pagination<R> map(final Function<T, R> mapper) {
+        return new Pagination<>(currentPage(), perPage(), total(), CollectionUtils.mapTo(this.items, mapper), next());
     }
 }
@@ -5,6 +5,35 @@ public record SearchQuery(
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        Boolean active,
+        Boolean deleted,
+        String after
 ) {
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null, null, null);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Boolean active,
+            final Boolean deleted
+    ) {
+        this(page, perPage, terms, sort, direction, active, deleted, null);
+    }
+
+    public boolean hasAfter() {
+        return after != null && !after.isBlank();
+    }
 }
@@ -0,0 +1,48 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+
+public final class CoarseClock extends Clock {
+
+    private final Clock source;
+    private volatile Instant current = Instant.EPOCH;
+
+    private CoarseClock(final Clock aSource) {
+        this.source = Objects.requireNonNull(aSource);
+    }
+
+    public static CoarseClock of(final Clock aSource) {
+        return new CoarseClock(aSource);
+    }
+
+    @Override
+    public Instant instant() {
+        final var millis = this.source.millis();
+        final var aCurrent = this.current;
+        if (aCurrent.toEpochMilli() == millis) {
+            return aCurrent;
+        }
+
+        final var aNext = Instant.ofEpochMilli(millis);
+        this.current = aNext;
+        return aNext;
+    }
+
+    @Override
+    public long millis() {
+        return this.source.millis();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return this.source.getZone();
+    }
+
+    @Override
+    public Clock withZone(final ZoneId aZone) {
+        return new CoarseClock(this.source.withZone(aZone));
+    }
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+public final class CollectionUtils {
+
+    private CollectionUtils() {}
+
+    public static <T, R> List<R> mapTo(final Collection<T> aCollection, final Function<? super T, ? extends R> aMapper) {
+        if (aCollection.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final var result = new ArrayList<R>(aCollection.size());
+        for (final var item : aCollection) {
+            result.add(aMapper.apply(item));
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
@@ -1,12 +1,55 @@
 package com.fullcycle.admin.catalogo.domain.utils;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Objects;
 
 public final class InstantUtils {
+
+    private static final Clock SYSTEM_CLOCK = Clock.systemUTC();
+
+    private static final ThreadLocal<Clock> SCOPED_CLOCK = new ThreadLocal<>();
+
+    private static volatile Clock clock = SYSTEM_CLOCK;
+
     private InstantUtils() {}
 
     public static Instant now() {
-        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+        final var aScopedClock = SCOPED_CLOCK.get();
+        return (aScopedClock != null ? aScopedClock : clock).instant().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    public static Clock clock() {
+        return clock;
+    }
+
+    public static void useClock(final Clock aClock) {
+        clock = Objects.requireNonNull(aClock);
+    }
+
+    public static void useSystemClock() {
+        clock = SYSTEM_CLOCK;
+    }
+
+    /*
+     * Replaces the clock for the calling thread only, until the returned scope is closed. Meant for bulk paths such
+     * as imports that want a coarse clock without changing the timestamps of every other request.
+     */
+    public static ClockScope useClockInCurrentThread(final Clock aClock) {
+        final var previous = SCOPED_CLOCK.get();
+        SCOPED_CLOCK.set(Objects.requireNonNull(aClock));
+        return () -> {
+            if (previous == null) {
+                SCOPED_CLOCK.remove();
+            } else {
+                SCOPED_CLOCK.set(previous);
+            }
+        };
+    }
+
+    public interface ClockScope extends AutoCloseable {
+        @Override
+        void close();
     }
 }
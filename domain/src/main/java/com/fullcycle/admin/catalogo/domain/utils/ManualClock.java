@@ -0,0 +1,48 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+public final class ManualClock extends Clock {
+
+    private final ZoneId zone;
+    private volatile Instant current;
+
+    private ManualClock(final Instant anInstant, final ZoneId aZone) {
+        this.current = Objects.requireNonNull(anInstant);
+        this.zone = Objects.requireNonNull(aZone);
+    }
+
+    public static ManualClock at(final Instant anInstant) {
+        return new ManualClock(anInstant, ZoneOffset.UTC);
+    }
+
+    public ManualClock set(final Instant anInstant) {
+        this.current = Objects.requireNonNull(anInstant);
+        return this;
+    }
+
+    public ManualClock advance(final Duration aDuration) {
+        this.current = this.current.plus(aDuration);
+        return this;
+    }
+
+    @Override
+    public Instant instant() {
+        return this.current;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return this.zone;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId aZone) {
+        return new ManualClock(this.current, aZone);
+    }
+}
@@ -0,0 +1,126 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class UuidUtils {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int LENGTH = 36;
+
+    private static final ThreadLocal<TimeOrderedSequence> SEQUENCE = ThreadLocal.withInitial(TimeOrderedSequence::new);
+
+    private UuidUtils() {}
+
+    public static UUID timeOrdered() {
+        return SEQUENCE.get().next(System.currentTimeMillis());
+    }
+
+    public static boolean isUuid(final String aValue) {
+        if (aValue == null || aValue.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            final var c = aValue.charAt(i);
+            if (isDashPosition(i) ? c != '-' : digit(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static long mostSignificantBits(final String aUuid) {
+        return parse(aUuid, 0, 8) << 32 | parse(aUuid, 9, 13) << 16 | parse(aUuid, 14, 18);
+    }
+
+    public static long leastSignificantBits(final String aUuid) {
+        return parse(aUuid, 19, 23) << 48 | parse(aUuid, 24, 36);
+    }
+
+    public static String toString(final long mostSigBits, final long leastSigBits) {
+        final var chars = new char[LENGTH];
+        hex(chars, 0, mostSigBits >>> 32, 8);
+        chars[8] = '-';
+        hex(chars, 9, mostSigBits >>> 16, 4);
+        chars[13] = '-';
+        hex(chars, 14, mostSigBits, 4);
+        chars[18] = '-';
+        hex(chars, 19, leastSigBits >>> 48, 4);
+        chars[23] = '-';
+        hex(chars, 24, leastSigBits, 12);
+        return new String(chars);
+    }
+
+    public static byte[] toBytes(final long mostSigBits, final long leastSigBits) {
+        final var bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (mostSigBits >>> (56 - 8 * i));
+            bytes[i + 8] = (byte) (leastSigBits >>> (56 - 8 * i));
+        }
+        return bytes;
+    }
+
+    public static String fromBytes(final byte[] bytes) {
+        long mostSigBits = 0;
+        long leastSigBits = 0;
+        for (int i = 0; i < 8; i++) {
+            mostSigBits = mostSigBits << 8 | (bytes[i] & 0xff);
+            leastSigBits = leastSigBits << 8 | (bytes[i + 8] & 0xff);
+        }
+        return toString(mostSigBits, leastSigBits);
+    }
+
+    private static boolean isDashPosition(final int anIndex) {
+        return anIndex == 8 || anIndex == 13 || anIndex == 18 || anIndex == 23;
+    }
+
+    private static int digit(final char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
+
+    private static long parse(final String aUuid, final int from, final int to) {
+        long bits = 0;
+        for (int i = from; i < to; i++) {
+            bits = bits << 4 | digit(aUuid.charAt(i));
+        }
+        return bits;
+    }
+
+    private static void hex(final char[] chars, final int offset, final long bits, final int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            chars[offset + digits - 1 - i] = HEX_DIGITS[(int) (bits >>> (4 * i)) & 0xf];
+        }
+    }
+
+    private static final class TimeOrderedSequence {
+
+        private static final long TIMESTAMP_MASK = 0xFFFF_FFFF_FFFFL;
+        private static final long VERSION_7 = 0x7000L;
+        private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+        private static final long VARIANT_RFC_4122 = 0x8000_0000_0000_0000L;
+        private static final int MAX_COUNTER = 0xFFF;
+        private static final int COUNTER_SEED_BOUND = 0x800;
+
+        private long lastMillis = Long.MIN_VALUE;
+        private int counter;
+
+        private UUID next(final long aMillis) {
+            final var random = ThreadLocalRandom.current();
+
+            if (aMillis > this.lastMillis) {
+                this.lastMillis = aMillis;
+                this.counter = random.nextInt(COUNTER_SEED_BOUND);
+            } else if (++this.counter > MAX_COUNTER) {
+                this.lastMillis++;
+                this.counter = random.nextInt(COUNTER_SEED_BOUND);
+            }
+
+            final var mostSigBits = (this.lastMillis & TIMESTAMP_MASK) << 16 | VERSION_7 | this.counter;
+            final var leastSigBits = random.nextLong() & VARIANT_MASK | VARIANT_RFC_4122;
+            return new UUID(mostSigBits, leastSigBits);
+        }
+    }
+}
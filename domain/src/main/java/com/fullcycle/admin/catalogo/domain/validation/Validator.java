@@ -1,16 +1,14 @@
 package com.fullcycle.admin.catalogo.domain.validation;
 
-public abstract class Validator {
+public abstract class Validator<T> {
 
-    private final ValidationHandler handler;
+    public abstract void validate(T anObject, ValidationHandler aHandler);
 
-    protected Validator(final ValidationHandler aHandler) {
-        this.handler = aHandler;
+    protected static int trimmedLength(final String aValue) {
+        int start = 0;
+        int end = aValue.length();
+        while (start < end && aValue.charAt(start) <= ' ') start++;
+        while (end > start && aValue.charAt(end - 1) <= ' ') end--;
+        return end - start;
     }
-
-    public abstract void validate();
-
-    protected ValidationHandler validationHandler() {
-        return this.handler;
-    }
-}
\ No newline at end of file
+}
@@ -9,18 +9,17 @@ import java.util.List;
 
 public class Notification implements ValidationHandler {
 
-    private final List<Error> errors;
+    private List<Error> errors;
 
-    private Notification(final List<Error> errors) {
-        this.errors = errors;
+    private Notification() {
     }
 
     public static Notification create() {
-        return new Notification(new ArrayList<>());
+        return new Notification();
     }
 
     public static Notification create(final Error anError) {
-        return new Notification(new ArrayList<>()).append(anError);
+        return new Notification().append(anError);
     }
 
     public static Notification create(final Throwable t) {
@@ -29,30 +28,44 @@ public class Notification implements ValidationHandler {
 
     @Override
     public Notification append(final Error anError) {
-        this.errors.add(anError);
+        mutableErrors().add(anError);
         return this;
     }
 
     @Override
     public Notification append(final ValidationHandler anHandler) {
-        this.errors.addAll(anHandler.getErrors());
-        return null;
+        if (anHandler.hasErrors()) {
+            mutableErrors().addAll(anHandler.getErrors());
+        }
+        return this;
     }
 
     @Override
     public <T> T validate(final Validation<T> aValidation) {
         try {
             return aValidation.validate();
-        } catch(final DomainException ex) {
-            this.errors.addAll(ex.getErrors());
-        } catch (final Throwable t) {
-            this.errors.add(new Error(t.getMessage()));
+        } catch (final DomainException ex) {
+            mutableErrors().addAll(ex.getErrors());
+        } catch (final RuntimeException ex) {
+            mutableErrors().add(new Error(ex.getMessage()));
         }
         return null;
     }
 
     @Override
     public List<Error> getErrors() {
+        return this.errors != null ? this.errors : List.of();
+    }
+
+    @Override
+    public boolean hasErrors() {
+        return this.errors != null && !this.errors.isEmpty();
+    }
+
+    private List<Error> mutableErrors() {
+        if (this.errors == null) {
+            this.errors = new ArrayList<>();
+        }
         return this.errors;
     }
 }
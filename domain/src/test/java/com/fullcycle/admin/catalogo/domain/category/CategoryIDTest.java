@@ -0,0 +1,50 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+class CategoryIDTest {
+
+    @Test
+    void givenAnUUID_whenCallsFrom_shouldKeepBitsAndRenderCanonicalString() {
+        final var expectedUUID = UUID.fromString("0189F7E4-1C2A-7B3D-8E4F-5A6B7C8D9E0F");
+        final var expectedValue = "0189f7e4-1c2a-7b3d-8e4f-5a6b7c8d9e0f";
+
+        final var actualID = CategoryID.from(expectedUUID);
+
+        Assertions.assertTrue(actualID.isCompact());
+        Assertions.assertEquals(expectedUUID.getMostSignificantBits(), actualID.getMostSignificantBits());
+        Assertions.assertEquals(expectedUUID.getLeastSignificantBits(), actualID.getLeastSignificantBits());
+        Assertions.assertEquals(expectedValue, actualID.getValue());
+    }
+
+    @Test
+    void givenAnUppercaseUUIDString_whenCallsFrom_shouldBeEqualToTheSameUUID() {
+        final var expectedUUID = UUID.randomUUID();
+
+        final var actualID = CategoryID.from(expectedUUID.toString().toUpperCase());
+
+        Assertions.assertEquals(CategoryID.from(expectedUUID), actualID);
+        Assertions.assertEquals(CategoryID.from(expectedUUID).hashCode(), actualID.hashCode());
+        Assertions.assertEquals(expectedUUID.toString(), actualID.getValue());
+    }
+
+    @Test
+    void givenANonUUIDString_whenCallsFrom_shouldKeepTheOriginalValue() {
+        final var expectedValue = "123";
+
+        final var actualID = CategoryID.from(expectedValue);
+
+        Assertions.assertFalse(actualID.isCompact());
+        Assertions.assertEquals(expectedValue, actualID.getValue());
+        Assertions.assertEquals(CategoryID.from(expectedValue), actualID);
+        Assertions.assertNotEquals(CategoryID.unique(), actualID);
+    }
+
+    @Test
+    void givenANullString_whenCallsFrom_shouldThrowNullPointerException() {
+        Assertions.assertThrows(NullPointerException.class, () -> CategoryID.from((String) null));
+    }
+}
@@ -1,10 +1,15 @@
 package com.fullcycle.admin.catalogo.domain.category;
 
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.utils.ManualClock;
 import com.fullcycle.admin.catalogo.domain.validation.handler.ThrowsValidationHandler;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.time.Instant;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class CategoryTest {
@@ -129,6 +134,27 @@ class CategoryTest {
         assertEquals(actualException.getErrors().get(0).message(), expectedErrorMessage);
     }
 
+    @Test
+    void givenAnInvalidDescriptionLengthMoreThan4000_whenCallNewCategoryAndValidate_thenShouldReceiveError() {
+        final var expectedName = "Filmes";
+        final var expectedDescription = "a".repeat(4001);
+        final var expectedIsActive = true;
+        final var expectedErrorCount = 1;
+        final var expectedErrorMessage = "'description' must be at most 4000 characters";
+
+        final var actualCategory = Category.newCategory(
+                expectedName,
+                expectedDescription,
+                expectedIsActive
+        );
+
+        final var actualException =
+                Assertions.assertThrows(DomainException.class, () -> actualCategory.validate(new ThrowsValidationHandler()));
+
+        assertEquals(actualException.getErrors().size(), expectedErrorCount);
+        assertEquals(actualException.getErrors().get(0).message(), expectedErrorMessage);
+    }
+
     @Test
     void givenAValidEmptyDescription_whenCallNewCategoryAndValidate_thenShouldNotReceiveError() {
         final var expectedName = "filmes";
@@ -370,4 +396,23 @@ class CategoryTest {
         Assertions.assertTrue(actualCategory.isActive());
         assertTrue(actualCategory.getUpdatedAt().isAfter(updatedAt));
     }
+
+    @Test
+    void givenAValidCategory_whenCallUpdateToInactive_thenUpdatedAtAndDeletedAtShouldShareTheSameInstant() {
+        final var aClock = ManualClock.at(Instant.parse("2022-05-01T10:00:00Z"));
+        InstantUtils.useClock(aClock);
+
+        try {
+            final var aCategory = Category.newCategory("Film", "A categoria", true);
+            aClock.advance(Duration.ofMinutes(1));
+
+            final var actualCategory = aCategory.update("Filmes", "A categoria", false);
+
+            assertEquals(Instant.parse("2022-05-01T10:00:00Z"), actualCategory.getCreatedAt());
+            assertEquals(Instant.parse("2022-05-01T10:01:00Z"), actualCategory.getUpdatedAt());
+            assertEquals(actualCategory.getUpdatedAt(), actualCategory.getDeletedAt());
+        } finally {
+            InstantUtils.useSystemClock();
+        }
+    }
 }
@@ -2,11 +2,16 @@ package com.fullcycle.admin.catalogo.domain.genre;
 
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.utils.ManualClock;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -480,4 +485,71 @@ class GenreTest {
         assertEquals(actualUpdatedAt, actualGenre.getUpdatedAt());
         assertNull(actualGenre.getDeletedAt());
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenADuplicatedCategoryID_whenCallAddCategories_shouldKeepItOnceInInsertionOrder() {
+        final var seriesId = CategoryID.from("123");
+        final var moviesId = CategoryID.from("456");
+        final var expectedCategories = List.of(seriesId, moviesId);
+
+        final var actualGenre = Genre.newGenre("Ação", true);
+        actualGenre.addCategories(List.of(seriesId, moviesId, seriesId));
+        actualGenre.addCategory(moviesId);
+
+        assertEquals(expectedCategories, actualGenre.getCategories());
+        assertTrue(actualGenre.containsCategory(seriesId));
+        assertThrows(UnsupportedOperationException.class, () -> actualGenre.getCategories().add(seriesId));
+    }
+
+    @Test
+    void givenAGenreWithCategories_whenCallRemoveCategories_shouldRemoveThem() {
+        final var seriesId = CategoryID.from("123");
+        final var moviesId = CategoryID.from("456");
+        final var documentariesId = CategoryID.from("789");
+        final var expectedCategories = List.of(moviesId);
+
+        final var actualGenre = Genre.newGenre("Ação", true)
+                .addCategories(List.of(seriesId, moviesId, documentariesId));
+
+        actualGenre.removeCategories(List.of(seriesId, documentariesId));
+
+        assertEquals(expectedCategories, actualGenre.getCategories());
+        assertFalse(actualGenre.containsCategory(seriesId));
+    }
+
+    @Test
+    void givenPreviousCategories_whenCallCategoriesDiff_shouldReturnAddedAndRemoved() {
+        final var seriesId = CategoryID.from("123");
+        final var moviesId = CategoryID.from("456");
+        final var documentariesId = CategoryID.from("789");
+
+        final var actualGenre = Genre.newGenre("Ação", true)
+                .addCategories(List.of(moviesId, documentariesId));
+
+        final var actualDiff = actualGenre.categoriesDiff(List.of(seriesId, moviesId));
+
+        assertEquals(Set.of(documentariesId), actualDiff.added());
+        assertEquals(Set.of(seriesId), actualDiff.removed());
+        assertFalse(actualDiff.isEmpty());
+        assertTrue(actualGenre.categoriesDiff(actualGenre.getCategories()).isEmpty());
+    }
+
+    @Test
+    void givenAnActiveGenre_whenCallUpdateToInactive_thenUpdatedAtAndDeletedAtShouldShareTheSameInstant() {
+        final var aClock = ManualClock.at(Instant.parse("2022-05-01T10:00:00Z"));
+        InstantUtils.useClock(aClock);
+
+        try {
+            final var aGenre = Genre.newGenre("Acao", true);
+            aClock.advance(Duration.ofMinutes(1));
+
+            final var actualGenre = aGenre.update("Ação", false, List.of(CategoryID.from("123")));
+
+            assertEquals(Instant.parse("2022-05-01T10:00:00Z"), actualGenre.getCreatedAt());
+            assertEquals(Instant.parse("2022-05-01T10:01:00Z"), actualGenre.getUpdatedAt());
+            assertEquals(actualGenre.getUpdatedAt(), actualGenre.getDeletedAt());
+        } finally {
+            InstantUtils.useSystemClock();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+
+class InstantUtilsTest {
+
+    @AfterEach
+    void cleanUp() {
+        InstantUtils.useSystemClock();
+    }
+
+    @Test
+    void givenAManualClock_whenCallsNow_shouldReturnTheClockInstantTruncatedToMicros() {
+        final var aClock = ManualClock.at(Instant.parse("2022-05-01T10:00:00.123456789Z"));
+        InstantUtils.useClock(aClock);
+
+        Assertions.assertEquals(Instant.parse("2022-05-01T10:00:00.123456Z"), InstantUtils.now());
+
+        aClock.advance(Duration.ofSeconds(1));
+
+        Assertions.assertEquals(Instant.parse("2022-05-01T10:00:01.123456Z"), InstantUtils.now());
+    }
+
+    @Test
+    void givenACoarseClock_whenCallsNowWithinTheSameMillisecond_shouldReuseTheSameInstant() {
+        final var aSource = ManualClock.at(Instant.parse("2022-05-01T10:00:00.123456789Z"));
+        InstantUtils.useClock(CoarseClock.of(aSource));
+
+        final var first = InstantUtils.now();
+        aSource.advance(Duration.ofNanos(500_000));
+        final var second = InstantUtils.now();
+        aSource.advance(Duration.ofMillis(1));
+        final var third = InstantUtils.now();
+
+        Assertions.assertEquals(Instant.parse("2022-05-01T10:00:00.123Z"), first);
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(Instant.parse("2022-05-01T10:00:00.124Z"), third);
+    }
+
+    @Test
+    void givenAClockScopedToTheCurrentThread_whenCallsNow_shouldUseItOnlyInThatThreadUntilClosed() throws Exception {
+        final var anInstant = Instant.parse("2022-05-01T10:00:00.123Z");
+
+        try (final var ignored = InstantUtils.useClockInCurrentThread(ManualClock.at(anInstant))) {
+            Assertions.assertEquals(anInstant, InstantUtils.now());
+
+            final var otherThread = CompletableFuture.supplyAsync(InstantUtils::now).get();
+            Assertions.assertNotEquals(anInstant, otherThread);
+        }
+
+        Assertions.assertNotEquals(anInstant, InstantUtils.now());
+    }
+
+    @Test
+    void givenTheSystemClock_whenCallsUseSystemClock_shouldRestoreIt() {
+        InstantUtils.useClock(ManualClock.at(Instant.EPOCH));
+        InstantUtils.useSystemClock();
+
+        Assertions.assertEquals(Clock.systemUTC(), InstantUtils.clock());
+        Assertions.assertEquals(ZoneOffset.UTC, InstantUtils.clock().getZone());
+    }
+
+    @Test
+    void givenANullClock_whenCallsUseClock_shouldThrowNullPointerException() {
+        Assertions.assertThrows(NullPointerException.class, () -> InstantUtils.useClock(null));
+    }
+}
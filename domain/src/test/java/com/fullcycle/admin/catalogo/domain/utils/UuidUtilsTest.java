@@ -0,0 +1,83 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class UuidUtilsTest {
+
+    @Test
+    void givenACanonicalString_whenConvertsToBytesAndBack_shouldKeepTheValue() {
+        final var expectedValue = "0189f7e4-1c2a-7b3d-8e4f-5a6b7c8d9e0f";
+
+        final var actualBytes = UuidUtils.toBytes(
+                UuidUtils.mostSignificantBits(expectedValue),
+                UuidUtils.leastSignificantBits(expectedValue)
+        );
+
+        Assertions.assertTrue(UuidUtils.isUuid(expectedValue));
+        Assertions.assertEquals(16, actualBytes.length);
+        Assertions.assertEquals(expectedValue, UuidUtils.fromBytes(actualBytes));
+    }
+
+    @Test
+    void givenInvalidStrings_whenCallsIsUuid_shouldReturnFalse() {
+        Assertions.assertFalse(UuidUtils.isUuid(null));
+        Assertions.assertFalse(UuidUtils.isUuid("123"));
+        Assertions.assertFalse(UuidUtils.isUuid("0189f7e4-1c2a-7b3d-8e4f-5a6b7c8d9e0g"));
+        Assertions.assertFalse(UuidUtils.isUuid("0189f7e4a1c2a-7b3d-8e4f-5a6b7c8d9e0f"));
+    }
+
+    @Test
+    void givenManyCalls_whenCallsTimeOrdered_shouldReturnStrictlyIncreasingVersion7Uuids() {
+        final var before = System.currentTimeMillis();
+
+        var previous = UuidUtils.timeOrdered();
+        for (int i = 0; i < 100_000; i++) {
+            final var actual = UuidUtils.timeOrdered();
+
+            Assertions.assertEquals(7, actual.version());
+            Assertions.assertEquals(2, actual.variant());
+            Assertions.assertTrue(compareUnsigned(previous, actual) < 0, "%s <= %s".formatted(actual, previous));
+            previous = actual;
+        }
+
+        final var lastTimestamp = UuidUtils.timeOrdered().getMostSignificantBits() >>> 16;
+        Assertions.assertTrue(lastTimestamp >= before);
+    }
+
+    @Test
+    void givenConcurrentThreads_whenCallsTimeOrdered_shouldNotReturnDuplicates() throws Exception {
+        final var threads = 8;
+        final var idsPerThread = 20_000;
+        final var ids = ConcurrentHashMap.<UUID>newKeySet();
+        final var executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                final var local = new HashSet<UUID>();
+                for (int i = 0; i < idsPerThread; i++) {
+                    local.add(UuidUtils.timeOrdered());
+                }
+                ids.addAll(local);
+            });
+        }
+        executor.shutdown();
+
+        Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        Assertions.assertEquals(threads * idsPerThread, ids.size());
+    }
+
+    private static int compareUnsigned(final UUID a, final UUID b) {
+        return Arrays.compareUnsigned(
+                UuidUtils.toBytes(a.getMostSignificantBits(), a.getLeastSignificantBits()),
+                UuidUtils.toBytes(b.getMostSignificantBits(), b.getLeastSignificantBits())
+        );
+    }
+}
@@ -0,0 +1,60 @@
+package com.fullcycle.admin.catalogo.domain.validation.handler;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class NotificationTest {
+
+    @Test
+    void givenANewNotification_whenCallsGetErrors_shouldReturnEmpty() {
+        final var actualNotification = Notification.create();
+
+        Assertions.assertFalse(actualNotification.hasErrors());
+        Assertions.assertTrue(actualNotification.getErrors().isEmpty());
+        Assertions.assertNull(actualNotification.firstError());
+    }
+
+    @Test
+    void givenAnotherHandler_whenCallsAppend_shouldCopyErrorsAndReturnItself() {
+        final var expectedError = new Error("'name' should not be null");
+        final var actualNotification = Notification.create();
+
+        final var actualResult = actualNotification
+                .append(Notification.create())
+                .append(Notification.create(expectedError));
+
+        Assertions.assertSame(actualNotification, actualResult);
+        Assertions.assertEquals(1, actualNotification.getErrors().size());
+        Assertions.assertEquals(expectedError, actualNotification.firstError());
+    }
+
+    @Test
+    void givenAFailingValidation_whenCallsValidate_shouldCollectErrors() {
+        final var expectedErrorOne = new Error("'name' should not be empty");
+        final var expectedErrorTwo = new Error("boom");
+        final var actualNotification = Notification.create();
+
+        actualNotification.validate(() -> {
+            throw DomainException.with(expectedErrorOne);
+        });
+        actualNotification.validate(() -> {
+            throw new IllegalStateException(expectedErrorTwo.message());
+        });
+
+        Assertions.assertEquals(2, actualNotification.getErrors().size());
+        Assertions.assertEquals(expectedErrorOne, actualNotification.getErrors().get(0));
+        Assertions.assertEquals(expectedErrorTwo, actualNotification.getErrors().get(1));
+    }
+
+    @Test
+    void givenAnError_whenCallsValidate_shouldNotSwallowIt() {
+        final var actualNotification = Notification.create();
+
+        Assertions.assertThrows(AssertionError.class, () -> actualNotification.validate(() -> {
+            throw new AssertionError("unexpected");
+        }));
+        Assertions.assertFalse(actualNotification.hasErrors());
+    }
+}
@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalogo.infrastructure;
+
+import com.fullcycle.admin.catalogo.domain.utils.UuidUtils;
+import com.fullcycle.admin.catalogo.infrastructure.category.imports.CategoryImportReader;
+import com.fullcycle.admin.catalogo.infrastructure.category.imports.CategoryImporter;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ImportFormat;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.core.env.AbstractEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/*
+ * Imports categories from a file without the web server:
+ *   java -cp application.jar com.fullcycle.admin.catalogo.infrastructure.CategoryImportCli categories.csv [import-id]
+ * Rejected rows and then the summary are printed as NDJSON. Running again with the printed import id resumes after
+ * the last committed batch.
+ */
+public class CategoryImportCli {
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: CategoryImportCli <file.csv|file.ndjson> [import-id]");
+            System.exit(2);
+        }
+
+        final var aFile = Path.of(args[0]);
+        final var aFormat = ImportFormat.ofFileName(aFile.getFileName().toString())
+                .orElseThrow(() -> new IllegalArgumentException("Expected a .csv, .ndjson or .jsonl file: " + aFile));
+        final var anImportId = args.length > 1 ? args[1] : UuidUtils.timeOrdered().toString();
+
+        System.setProperty(AbstractEnvironment.ACTIVE_PROFILES_PROPERTY_NAME, "development");
+        try (final var aContext = new SpringApplicationBuilder(WebServerConfig.class)
+                .web(WebApplicationType.NONE)
+                .run("--category.deletion.worker.enabled=false")) {
+            System.err.println("import id: " + anImportId);
+
+            final var anImporter = aContext.getBean(CategoryImporter.class);
+            try (final var aReader = CategoryImportReader.open(aFormat, Files.newInputStream(aFile))) {
+                final var aReport = anImporter.importFrom(
+                        aReader,
+                        anImportId,
+                        anError -> System.out.println(Json.writeValueAsString(anError))
+                );
+                System.out.println(Json.writeValueAsString(aReport));
+            }
+        }
+    }
+}
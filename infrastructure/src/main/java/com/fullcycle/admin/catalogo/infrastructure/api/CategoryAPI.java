@@ -9,11 +9,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RequestMapping(value = "/categories")
 @Tag(name = "Categories")
 public interface CategoryAPI {
@@ -26,23 +27,27 @@ public interface CategoryAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Created successfully"),
             @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
-            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+            @ApiResponse(responseCode = "503", description = "The service is overloaded, retry later")
     })
-    ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
+    CompletableFuture<ResponseEntity<?>> createCategory(@RequestBody CreateCategoryRequest input);
 
     @GetMapping
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
             @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
-            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+            @ApiResponse(responseCode = "503", description = "The service is overloaded, retry later")
     })
-    Pagination<CategoryListResponse> listCategories(
+    CompletableFuture<Pagination<CategoryListResponse>> listCategories(
             @RequestParam(value = "search", required = false) final String search,
             @RequestParam(value = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(value = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(value = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(value = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(value = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(value = "active", required = false) final Boolean active,
+            @RequestParam(value = "deleted", required = false) final Boolean deleted
     );
 
     @GetMapping(
@@ -53,9 +58,10 @@ public interface CategoryAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category retrieved successfully"),
             @ApiResponse(responseCode = "404", description = "Category was not found"),
-            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+            @ApiResponse(responseCode = "503", description = "The service is overloaded, retry later")
     })
-    CategoryResponse getById(@PathVariable("categoryId") String categoryId);
+    CompletableFuture<CategoryResponse> getById(@PathVariable("categoryId") String categoryId);
 
     @PutMapping(
             value = "/{categoryId}",
@@ -66,9 +72,10 @@ public interface CategoryAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category updated successfully"),
             @ApiResponse(responseCode = "404", description = "Category was not found"),
-            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+            @ApiResponse(responseCode = "503", description = "The service is overloaded, retry later")
     })
-    ResponseEntity<?> updateById(
+    CompletableFuture<ResponseEntity<?>> updateById(
             @PathVariable("categoryId") String categoryId,
             @RequestBody UpdateCategoryRequest input
     );
@@ -77,10 +84,14 @@ public interface CategoryAPI {
             value = "/{categoryId}",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Delete a category by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Category deleted successfully"),
+            @ApiResponse(responseCode = "202", description = "Category marked deleted, its genre links are removed in background"),
+            @ApiResponse(responseCode = "503", description = "The service is overloaded, retry later")
     })
-    void deleteById(@PathVariable("categoryId") String categoryId);
+    CompletableFuture<ResponseEntity<Void>> deleteById(
+            @PathVariable("categoryId") String categoryId,
+            @RequestParam(value = "chunked", required = false, defaultValue = "false") boolean chunked
+    );
 }
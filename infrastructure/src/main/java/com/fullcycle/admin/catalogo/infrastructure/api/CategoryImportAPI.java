@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.ImportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+
+@RequestMapping(value = "/categories")
+@Tag(name = "Categories")
+public interface CategoryImportAPI {
+
+    String IMPORT_ID_HEADER = "X-Import-Id";
+
+    @PostMapping(
+            value = "/import",
+            consumes = {ImportFormat.TEXT_CSV_VALUE, ImportFormat.APPLICATION_NDJSON_VALUE},
+            produces = ImportFormat.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Import categories from a CSV or NDJSON upload, resumable with the same importId")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "One line per rejected row, then the import summary"),
+            @ApiResponse(responseCode = "415", description = "The upload is neither text/csv nor application/x-ndjson"),
+            @ApiResponse(responseCode = "422", description = "The CSV header has no name column, or the importId is already running"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> importCategories(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam(value = "importId", required = false) String importId,
+            InputStream body
+    );
+}
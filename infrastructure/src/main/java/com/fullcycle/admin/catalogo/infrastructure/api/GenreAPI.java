@@ -0,0 +1,60 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@RequestMapping(value = "/genres")
+@Tag(name = "Genres")
+public interface GenreAPI {
+
+    @GetMapping
+    @Operation(
+            summary = "List all genres paginated",
+            description = "Pass a page's 'next' cursor as 'after' to read the following page; its total is the one counted on the first page"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "A invalid parameter or an unknown 'after' cursor was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+            @ApiResponse(responseCode = "503", description = "The service is overloaded, retry later")
+    })
+    CompletableFuture<Pagination<GenreListResponse>> list(
+            @RequestParam(value = "search", required = false) final String search,
+            @RequestParam(value = "page", required = false, defaultValue = "0") final int page,
+            @RequestParam(value = "perPage", required = false, defaultValue = "10") final int perPage,
+            @RequestParam(value = "sort", required = false, defaultValue = "name") final String sort,
+            @RequestParam(value = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(value = "active", required = false) final Boolean active,
+            @RequestParam(value = "deleted", required = false) final Boolean deleted,
+            @RequestParam(value = "after", required = false) final String after,
+            @RequestParam(value = "categoriesCount", required = false, defaultValue = "false") final boolean categoriesCount
+    );
+
+    @GetMapping(value = "/by-category")
+    @Operation(
+            summary = "List the ids of the genres linked to any of the given categories",
+            description = "Pass a page's 'next' cursor as 'after' to read the following page; its total is the one counted on the first page"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "An unknown 'after' cursor was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+            @ApiResponse(responseCode = "503", description = "The service is overloaded, retry later")
+    })
+    CompletableFuture<Pagination<String>> listByCategory(
+            @RequestParam(value = "categoryId") final List<String> categoryIds,
+            @RequestParam(value = "page", required = false, defaultValue = "0") final int page,
+            @RequestParam(value = "perPage", required = false, defaultValue = "100") final int perPage,
+            @RequestParam(value = "after", required = false) final String after
+    );
+}
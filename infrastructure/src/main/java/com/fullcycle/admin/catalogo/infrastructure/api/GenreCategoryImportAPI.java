@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.ImportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+
+@RequestMapping(value = "/genres")
+@Tag(name = "Genres")
+public interface GenreCategoryImportAPI {
+
+    @PostMapping(
+            value = "/categories/import",
+            consumes = {ImportFormat.TEXT_CSV_VALUE, ImportFormat.APPLICATION_NDJSON_VALUE},
+            produces = ImportFormat.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Link genres to categories in bulk from (genre_id, category_id) pairs, pairs already linked are skipped")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "One line per rejected pair, then the import summary"),
+            @ApiResponse(responseCode = "415", description = "The upload is neither text/csv nor application/x-ndjson"),
+            @ApiResponse(responseCode = "422", description = "The CSV header has no genre_id or category_id column"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> importCategoryLinks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    );
+}
@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/*
+ * A StreamingResponseBody is written from an async task, which the container cuts off after its default async
+ * timeout. Uploads can take longer, so the import endpoints give their own request a timeout instead of raising
+ * spring.mvc.async.request-timeout for every endpoint.
+ */
+final class AsyncTimeouts {
+
+    private static final String KEY = AsyncTimeouts.class.getName();
+
+    private AsyncTimeouts() {
+    }
+
+    static void setForCurrentRequest(final Duration aTimeout) {
+        final var aRequest = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+
+        WebAsyncUtils.getAsyncManager(aRequest).registerCallableInterceptor(KEY, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(final NativeWebRequest aWebRequest, final Callable<T> aTask) {
+                // runs before async processing starts, the only point where its timeout can still be changed
+                ((AsyncWebRequest) aWebRequest).setTimeout(aTimeout.toMillis());
+            }
+        });
+    }
+}
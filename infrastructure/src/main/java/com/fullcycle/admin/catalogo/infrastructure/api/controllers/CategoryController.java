@@ -4,6 +4,7 @@ import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCo
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.ScheduleCategoryDeletionUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
@@ -18,11 +19,15 @@ import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryRespo
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.execution.UseCaseExecutorConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 @RestController
@@ -32,24 +37,30 @@ public class CategoryController implements CategoryAPI {
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
+    private final ScheduleCategoryDeletionUseCase scheduleCategoryDeletionUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final Executor useCaseExecutor;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase
+            final ScheduleCategoryDeletionUseCase scheduleCategoryDeletionUseCase,
+            final ListCategoriesUseCase listCategoriesUseCase,
+            @Qualifier(UseCaseExecutorConfig.USE_CASE_EXECUTOR) final Executor useCaseExecutor
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+        this.scheduleCategoryDeletionUseCase = Objects.requireNonNull(scheduleCategoryDeletionUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.useCaseExecutor = Objects.requireNonNull(useCaseExecutor);
     }
 
     @Override
-    public ResponseEntity<?> createCategory(final CreateCategoryRequest input) {
+    public CompletableFuture<ResponseEntity<?>> createCategory(final CreateCategoryRequest input) {
         final var aCommand = CreateCategoryCommand.with(
                 input.name(),
                 input.description(),
@@ -62,29 +73,33 @@ public class CategoryController implements CategoryAPI {
                 .created(URI.create("/categories/" + output.id()))
                 .body(output);
 
-        return this.createCategoryUseCase.execute(aCommand)
-                .fold(onError, onSuccess);
+        return this.createCategoryUseCase.executeAsync(aCommand, this.useCaseExecutor)
+                .thenApply(output -> output.fold(onError, onSuccess));
     }
 
     @Override
-    public Pagination<CategoryListResponse> listCategories(
+    public CompletableFuture<Pagination<CategoryListResponse>> listCategories(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final Boolean active,
+            final Boolean deleted
     ) {
-        return listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
-                .map(CategoryApiPresenter::present);
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, active, deleted);
+
+        return listCategoriesUseCase.executeAsync(aQuery, CategoryListResponse::from, this.useCaseExecutor);
     }
 
     @Override
-    public CategoryResponse getById(final String categoryId) {
-        return CategoryApiPresenter.present(getCategoryByIdUseCase.execute(categoryId));
+    public CompletableFuture<CategoryResponse> getById(final String categoryId) {
+        return getCategoryByIdUseCase.executeAsync(categoryId, this.useCaseExecutor)
+                .thenApply(CategoryApiPresenter::present);
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String categoryId, final UpdateCategoryRequest input) {
+    public CompletableFuture<ResponseEntity<?>> updateById(final String categoryId, final UpdateCategoryRequest input) {
         final var aCommand = UpdateCategoryCommand.with(
                 categoryId,
                 input.name(),
@@ -95,12 +110,17 @@ public class CategoryController implements CategoryAPI {
         final Function<Notification, ResponseEntity<?>> onError = ResponseEntity.unprocessableEntity()::body;
         final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = ResponseEntity::ok;
 
-        return updateCategoryUseCase.execute(aCommand)
-                .fold(onError, onSuccess);
+        return updateCategoryUseCase.executeAsync(aCommand, this.useCaseExecutor)
+                .thenApply(output -> output.fold(onError, onSuccess));
     }
 
     @Override
-    public void deleteById(final String categoryId) {
-        deleteCategoryUseCase.execute(categoryId);
+    public CompletableFuture<ResponseEntity<Void>> deleteById(final String categoryId, final boolean chunked) {
+        if (chunked) {
+            return scheduleCategoryDeletionUseCase.executeAsync(categoryId, this.useCaseExecutor)
+                    .thenApply(nothing -> ResponseEntity.accepted().build());
+        }
+        return deleteCategoryUseCase.executeAsync(categoryId, this.useCaseExecutor)
+                .thenApply(nothing -> ResponseEntity.noContent().build());
     }
 }
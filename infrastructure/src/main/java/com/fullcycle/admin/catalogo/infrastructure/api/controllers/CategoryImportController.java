@@ -0,0 +1,81 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fullcycle.admin.catalogo.domain.utils.UuidUtils;
+import com.fullcycle.admin.catalogo.infrastructure.api.CategoryImportAPI;
+import com.fullcycle.admin.catalogo.infrastructure.category.imports.CategoryImportReader;
+import com.fullcycle.admin.catalogo.infrastructure.category.imports.CategoryImporter;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ImportFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Objects;
+
+@RestController
+public class CategoryImportController implements CategoryImportAPI {
+
+    private static final ObjectWriter WRITER = Json.mapper().writer();
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType(ImportFormat.APPLICATION_NDJSON_VALUE);
+
+    private final CategoryImporter categoryImporter;
+    private final Duration timeout;
+
+    public CategoryImportController(
+            final CategoryImporter categoryImporter,
+            @Value("${category.import.timeout:30m}") final Duration timeout
+    ) {
+        this.categoryImporter = Objects.requireNonNull(categoryImporter);
+        this.timeout = Objects.requireNonNull(timeout);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> importCategories(
+            final String contentType,
+            final String importId,
+            final InputStream body
+    ) {
+        final var aFormat = ImportFormat.ofMediaType(contentType).orElseThrow();
+        final var anImportId = importId == null || importId.isBlank() ? UuidUtils.timeOrdered().toString() : importId;
+        final var aReader = CategoryImportReader.open(aFormat, body);
+
+        // claimed before streaming, so a run already in progress is still answered with a 422
+        final var aCheckpoint = this.categoryImporter.claim(anImportId);
+        AsyncTimeouts.setForCurrentRequest(this.timeout);
+
+        final StreamingResponseBody aResponse = out -> {
+            try (aReader) {
+                final var aReport = this.categoryImporter.importFrom(
+                        aReader,
+                        anImportId,
+                        aCheckpoint,
+                        anError -> writeLine(out, anError)
+                );
+                writeLine(out, aReport);
+                out.flush();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .header(IMPORT_ID_HEADER, anImportId)
+                .contentType(APPLICATION_NDJSON)
+                .body(aResponse);
+    }
+
+    private static void writeLine(final OutputStream out, final Object aValue) {
+        try {
+            out.write(WRITER.writeValueAsBytes(aValue));
+            out.write('\n');
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fullcycle.admin.catalogo.infrastructure.api.GenreCategoryImportAPI;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.genre.imports.GenreCategoryLinkImporter;
+import com.fullcycle.admin.catalogo.infrastructure.genre.imports.GenreCategoryLinkReader;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ImportFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Objects;
+
+@RestController
+public class GenreCategoryImportController implements GenreCategoryImportAPI {
+
+    private static final ObjectWriter WRITER = Json.mapper().writer();
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType(ImportFormat.APPLICATION_NDJSON_VALUE);
+
+    private final GenreCategoryLinkImporter linkImporter;
+    private final Duration timeout;
+
+    public GenreCategoryImportController(
+            final GenreCategoryLinkImporter linkImporter,
+            @Value("${genre.category-import.timeout:30m}") final Duration timeout
+    ) {
+        this.linkImporter = Objects.requireNonNull(linkImporter);
+        this.timeout = Objects.requireNonNull(timeout);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> importCategoryLinks(final String contentType, final InputStream body) {
+        final var aFormat = ImportFormat.ofMediaType(contentType).orElseThrow();
+        final var aReader = GenreCategoryLinkReader.open(aFormat, body);
+        AsyncTimeouts.setForCurrentRequest(this.timeout);
+
+        final StreamingResponseBody aResponse = out -> {
+            try (aReader) {
+                final var aReport = this.linkImporter.importFrom(aReader, anError -> writeLine(out, anError));
+                writeLine(out, aReport);
+                out.flush();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(aResponse);
+    }
+
+    private static void writeLine(final OutputStream out, final Object aValue) {
+        try {
+            out.write(WRITER.writeValueAsBytes(aValue));
+            out.write('\n');
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.application.genre.retrieve.category.ListGenresByCategoryCommand;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.category.ListGenresByCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.api.GenreAPI;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.execution.UseCaseExecutorConfig;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.genre.presenters.GenreApiPresenter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@RestController
+public class GenreController implements GenreAPI {
+
+    private final ListGenreUseCase listGenreUseCase;
+    private final ListGenresByCategoryUseCase listGenresByCategoryUseCase;
+    private final Executor useCaseExecutor;
+
+    public GenreController(
+            final ListGenreUseCase listGenreUseCase,
+            final ListGenresByCategoryUseCase listGenresByCategoryUseCase,
+            @Qualifier(UseCaseExecutorConfig.USE_CASE_EXECUTOR) final Executor useCaseExecutor
+    ) {
+        this.listGenreUseCase = Objects.requireNonNull(listGenreUseCase);
+        this.listGenresByCategoryUseCase = Objects.requireNonNull(listGenresByCategoryUseCase);
+        this.useCaseExecutor = Objects.requireNonNull(useCaseExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Pagination<GenreListResponse>> list(
+            final String search,
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final Boolean active,
+            final Boolean deleted,
+            final String after,
+            final boolean categoriesCount
+    ) {
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, active, deleted, after);
+
+        if (categoriesCount) {
+            return listGenreUseCase.executeAsync(aQuery, GenreListResponse::withCategoriesCount, this.useCaseExecutor);
+        }
+        return listGenreUseCase.executeAsync(aQuery, this.useCaseExecutor)
+                .thenApply(output -> output.map(GenreApiPresenter::present));
+    }
+
+    @Override
+    public CompletableFuture<Pagination<String>> listByCategory(
+            final List<String> categoryIds,
+            final int page,
+            final int perPage,
+            final String after
+    ) {
+        final var aQuery = new SearchQuery(page, perPage, null, null, null, null, null, after);
+
+        return listGenresByCategoryUseCase.executeAsync(
+                ListGenresByCategoryCommand.with(categoryIds, aQuery),
+                this.useCaseExecutor
+        );
+    }
+}
@@ -3,12 +3,17 @@ package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.execution.DatabaseOverloadedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -23,9 +28,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = {DatabaseOverloadedException.class, RejectedExecutionException.class})
+    public ResponseEntity<?> handleOverloadedException(final RuntimeException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiError.from(ex));
+    }
+
+    // A pool timeout is overload as well; its own message would leak connection details
+    @ExceptionHandler(value = {CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public ResponseEntity<?> handleConnectionUnavailable(final RuntimeException ex) {
+        return handleOverloadedException(DatabaseOverloadedException.noConnection());
+    }
+
     record ApiError(String message, List<Error> errors) {
         static ApiError from(final DomainException ex) {
             return new ApiError(ex.getMessage(), ex.getErrors());
         }
+
+        static ApiError from(final RuntimeException ex) {
+            return new ApiError(ex.getMessage(), List.of());
+        }
     }
 }
@@ -3,17 +3,30 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryRowMapper;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryDeletionJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryDeletionRepository;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreCategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SortRegistry;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import org.hibernate.Cache;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.Collections;
+import javax.persistence.EntityManagerFactory;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,44 +36,141 @@ import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUti
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
-    private final CategoryRepository repository;
+    private static final SortRegistry SORTS = SortRegistry.of("name", "name", "createdAt", "updatedAt");
+
+    private static final String GENRE_CATEGORIES_ROLE = GenreJpaEntity.class.getName() + ".categories";
 
-    public CategoryMySQLGateway(final CategoryRepository categoryRepository) {
+    private final CategoryRepository repository;
+    private final CategoryDeletionRepository deletionRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CategoryMySQLGateway(
+            final CategoryRepository categoryRepository,
+            final CategoryDeletionRepository deletionRepository,
+            final EntityManagerFactory entityManagerFactory
+    ) {
         this.repository = categoryRepository;
+        this.deletionRepository = deletionRepository;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     @Override
     public Category create(final Category aCategory) {
-        return save(aCategory);
+        return this.repository.save(CategoryJpaEntity.newEntity(aCategory))
+                .toAggregate();
     }
 
     @Override
     public void deleteById(final CategoryID anId) {
-        final var anIdValue = anId.getValue();
+        if (anId.isCompact() && this.repository.deleteRowsByIdIn(List.of(anId.getValue())) > 0) {
+            evictAfterCommit(List.of(anId.getValue()));
+        }
+    }
+
+    @Override
+    public int deleteAllById(final Iterable<CategoryID> ids) {
+        final var idValues = UuidBinaryType.storableValues(ids);
+
+        if (idValues.isEmpty()) {
+            return 0;
+        }
+
+        final var deleted = this.repository.deleteRowsByIdIn(idValues);
+        if (deleted > 0) {
+            evictAfterCommit(idValues);
+        }
+        return deleted;
+    }
 
-        if (this.repository.existsById(anIdValue))
-            this.repository.deleteById(anId.getValue());
+    @Override
+    @Transactional
+    public void scheduleDeletion(final Category aCategory) {
+        final var anId = aCategory.getId().getValue();
+
+        findEntity(aCategory.getId()).ifPresent(anEntity -> {
+            anEntity.update(aCategory);
+            if (!this.deletionRepository.existsById(anId)) {
+                this.deletionRepository.save(CategoryDeletionJpaEntity.requested(anId, aCategory.getUpdatedAt()));
+            }
+        });
     }
 
     @Override
     public Optional<Category> findById(final CategoryID anId) {
-        return this.repository.findById(anId.getValue())
+        return findEntity(anId)
                 .map(CategoryJpaEntity::toAggregate);
     }
 
+    /*
+     * Loads and updates the managed entity instead of issuing a bulk UPDATE, which would evict the whole category
+     * region from the second-level cache. A category waiting for its chunked deletion is not found: writing the
+     * aggregate over it would clear the deletion mark with whatever the caller read before the DELETE.
+     */
     @Override
+    @Transactional
     public Category update(final Category aCategory) {
-        return save(aCategory);
+        final var anId = aCategory.getId();
+        final var anEntity = findEntity(anId)
+                .filter(it -> it.getDeletedAt() == null || !this.deletionRepository.existsById(it.getId()))
+                .orElseThrow(() -> NotFoundException.with(Category.class, anId));
+
+        return anEntity.update(aCategory).toAggregate();
     }
 
     @Override
     public Pagination<Category> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
+        final var pageResult = this.repository.findAll(where(aQuery), pageOf(aQuery));
+
+        return new Pagination<>(
+                pageResult.getNumber(),
+                pageResult.getSize(),
+                pageResult.getTotalElements(),
+                CollectionUtils.mapTo(pageResult.getContent(), CategoryJpaEntity::toAggregate)
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> Pagination<T> findAll(final SearchQuery aQuery, final CategoryRowMapper<T> aMapper) {
+        final var pageResult = this.repository.findAllRows(where(aQuery), pageOf(aQuery));
+
+        return new Pagination<>(
+                pageResult.getNumber(),
+                pageResult.getSize(),
+                pageResult.getTotalElements(),
+                CollectionUtils.mapTo(pageResult.getContent(), aMapper::map)
+        );
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> categoryIDs) {
+        final var ids = UuidBinaryType.storableValues(categoryIDs);
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return this.repository.existsByIds(ids).stream()
+                .map(CategoryID::from)
+                .toList();
+    }
+
+    private Optional<CategoryJpaEntity> findEntity(final CategoryID anId) {
+        if (!anId.isCompact()) {
+            return Optional.empty();
+        }
+        return this.repository.findById(anId.getValue());
+    }
+
+    private static PageRequest pageOf(final SearchQuery aQuery) {
+        return PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+                SORTS.sortOf(aQuery.sort(), aQuery.direction())
         );
+    }
 
+    private static Specification<CategoryJpaEntity> where(final SearchQuery aQuery) {
         final var specifications = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
                 .map(term ->
@@ -69,24 +179,44 @@ public class CategoryMySQLGateway implements CategoryGateway {
                 )
                 .orElse(null);
 
-        final var pageResult = this.repository.findAll(Specification.where(specifications), page);
+        final var isActive = Optional.ofNullable(aQuery.active())
+                .map(active -> SpecificationUtils.<CategoryJpaEntity>equal("active", active))
+                .orElse(null);
 
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
-        );
-    }
+        // A deleted row is always an inactive one, so an (active, sort, id) index can serve this filter
+        final var isDeleted = Optional.ofNullable(aQuery.deleted())
+                .map(deleted -> SpecificationUtils.<CategoryJpaEntity>isNull("deletedAt", !deleted)
+                        .and(SpecificationUtils.equal("active", !deleted)))
+                .orElse(null);
 
-    @Override
-    public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
-        // TODO: implementar quando chegar na camada de infraestrutura de Genre.
-        return Collections.emptyList();
+        return Specification.where(specifications)
+                .and(isActive)
+                .and(isDeleted);
     }
 
-    private Category save(final Category aCategory) {
-        return this.repository.save(CategoryJpaEntity.from(aCategory))
-                .toAggregate();
+    /*
+     * The rows are deleted behind Hibernate's back, so only the deleted categories leave their region instead of all of
+     * them; the cached list queries, which only ever select categories, are dropped as a write to the table would.
+     * genres_categories rows go away through ON DELETE CASCADE, which Hibernate does not see either.
+     */
+    private void evictAfterCommit(final Collection<String> ids) {
+        final Runnable evict = () -> {
+            final var aCache = this.entityManagerFactory.getCache().unwrap(Cache.class);
+            ids.forEach(anId -> aCache.evictEntityData(CategoryJpaEntity.class, anId));
+            aCache.evictQueryRegions();
+            aCache.evictEntityData(GenreCategoryJpaEntity.class);
+            aCache.evictCollectionData(GENRE_CATEGORIES_ROLE);
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
     }
 }
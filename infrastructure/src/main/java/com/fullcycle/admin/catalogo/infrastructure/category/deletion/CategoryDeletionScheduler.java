@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.deletion;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/*
+ * The interval is bound as a Duration, @Scheduled delay strings only take milliseconds or ISO-8601 and would reject
+ * the "5s" style used everywhere else in the configuration.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "category.deletion.worker.enabled", havingValue = "true")
+public class CategoryDeletionScheduler implements SchedulingConfigurer {
+
+    private final CategoryDeletionWorker worker;
+    private final Duration interval;
+
+    public CategoryDeletionScheduler(
+            final CategoryDeletionWorker worker,
+            @Value("${category.deletion.worker.interval:5s}") final Duration interval
+    ) {
+        this.worker = Objects.requireNonNull(worker);
+        this.interval = Objects.requireNonNull(interval);
+    }
+
+    @Override
+    public void configureTasks(final ScheduledTaskRegistrar aRegistrar) {
+        aRegistrar.addFixedDelayTask(new IntervalTask(this::runPending, this.interval.toMillis(), this.interval.toMillis()));
+    }
+
+    public void runPending() {
+        this.worker.runPending();
+    }
+}
@@ -0,0 +1,180 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.deletion;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryDeletionRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Purges the categories scheduled for deletion. Links to genres are removed a batch per transaction, so row locks on
+ * genres_categories are held only briefly, and the category row goes last. Progress is kept in category_deletions,
+ * a restart picks the pending categories up where they were left.
+ *
+ * Every transaction first claims the category_deletions row, so two instances never work on the same category at
+ * once, and re-checks the deletion mark: a category that lost it keeps its remaining links and its row is dropped.
+ */
+@Component
+public class CategoryDeletionWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryDeletionWorker.class);
+    private static final int NOT_CLAIMED = -1;
+
+    private final CategoryDeletionRepository deletionRepository;
+    private final GenreRepository genreRepository;
+    private final CategoryGateway categoryGateway;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int categoriesPerRun;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter removedLinks;
+    private final Counter completed;
+    private final Counter failed;
+    private final Timer batches;
+
+    @Autowired
+    public CategoryDeletionWorker(
+            final CategoryDeletionRepository deletionRepository,
+            final GenreRepository genreRepository,
+            final CategoryGateway categoryGateway,
+            final PlatformTransactionManager transactionManager,
+            final ObjectProvider<MeterRegistry> registry,
+            @Value("${category.deletion.batch-size:1000}") final int batchSize,
+            @Value("${category.deletion.categories-per-run:10}") final int categoriesPerRun
+    ) {
+        this(
+                deletionRepository,
+                genreRepository,
+                categoryGateway,
+                new TransactionTemplate(transactionManager),
+                registry.getIfAvailable(() -> Metrics.globalRegistry),
+                batchSize,
+                categoriesPerRun
+        );
+    }
+
+    public CategoryDeletionWorker(
+            final CategoryDeletionRepository deletionRepository,
+            final GenreRepository genreRepository,
+            final CategoryGateway categoryGateway,
+            final TransactionTemplate transactionTemplate,
+            final MeterRegistry registry,
+            final int batchSize,
+            final int categoriesPerRun
+    ) {
+        this.deletionRepository = Objects.requireNonNull(deletionRepository);
+        this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+        this.batchSize = batchSize;
+        this.categoriesPerRun = categoriesPerRun;
+
+        Gauge.builder("catalog.category.deletion.pending", this.pending, AtomicLong::get)
+                .description("Categories waiting to be purged, as of the last run")
+                .register(registry);
+        this.removedLinks = Counter.builder("catalog.category.deletion.links")
+                .description("genres_categories rows removed")
+                .register(registry);
+        this.completed = Counter.builder("catalog.category.deletion.completed")
+                .register(registry);
+        this.failed = Counter.builder("catalog.category.deletion.failed")
+                .register(registry);
+        this.batches = Timer.builder("catalog.category.deletion.batch")
+                .description("Time holding the locks of a single batch")
+                .register(registry);
+    }
+
+    public int runPending() {
+        this.pending.set(this.deletionRepository.count());
+
+        final var categoryIds = this.deletionRepository.findPendingCategoryIds(PageRequest.of(0, this.categoriesPerRun));
+        var purged = 0;
+
+        for (final var aCategoryId : categoryIds) {
+            try {
+                if (purge(aCategoryId)) {
+                    purged++;
+                }
+            } catch (final RuntimeException ex) {
+                this.failed.increment();
+                log.warn("Failed to purge category {}, it will be retried on the next run", aCategoryId, ex);
+            }
+        }
+
+        this.pending.addAndGet(-purged);
+        return purged;
+    }
+
+    public boolean purge(final String aCategoryId) {
+        int found;
+        do {
+            found = this.batches.record(() -> this.transactionTemplate.execute(status -> removeLinks(aCategoryId)));
+        } while (found == this.batchSize);
+
+        if (found == NOT_CLAIMED) {
+            return false;
+        }
+
+        final var purged = this.transactionTemplate.execute(status -> {
+            if (!claim(aCategoryId)) {
+                return false;
+            }
+            this.categoryGateway.deleteById(CategoryID.from(aCategoryId));
+            this.deletionRepository.deleteRowByCategoryId(aCategoryId);
+            return true;
+        });
+
+        if (Boolean.TRUE.equals(purged)) {
+            this.completed.increment();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean claim(final String aCategoryId) {
+        return switch (this.deletionRepository.claim(aCategoryId)) {
+            case CLAIMED -> true;
+            case TAKEN -> false;
+            case UNMARKED -> {
+                this.deletionRepository.deleteRowByCategoryId(aCategoryId);
+                log.info("Category {} is no longer marked as deleted, its deletion was dropped", aCategoryId);
+                yield false;
+            }
+        };
+    }
+
+    private int removeLinks(final String aCategoryId) {
+        if (!claim(aCategoryId)) {
+            return NOT_CLAIMED;
+        }
+
+        final var genreIds = this.genreRepository.findGenreIdsByCategoryId(aCategoryId, PageRequest.of(0, this.batchSize));
+        if (genreIds.isEmpty()) {
+            return 0;
+        }
+
+        final var removed = this.genreRepository.deleteCategoryLinks(aCategoryId, genreIds);
+        this.deletionRepository.addRemovedLinks(aCategoryId, removed, InstantUtils.now());
+        this.removedLinks.increment(removed);
+
+        return genreIds.size();
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.imports;
+
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public record CategoryImportError(long line, List<Error> errors) {
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.imports;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.ImportFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * Reads an upload one row at a time, so an import never holds more than a single row of the file in memory.
+ */
+public interface CategoryImportReader extends Closeable {
+
+    static CategoryImportReader open(final ImportFormat aFormat, final InputStream anInput) {
+        final var aReader = new InputStreamReader(anInput, StandardCharsets.UTF_8);
+        return switch (aFormat) {
+            case CSV -> new CsvCategoryImportReader(aReader);
+            case NDJSON -> new NdjsonCategoryImportReader(aReader);
+        };
+    }
+
+    /**
+     * @return the next row, or null once the input is exhausted
+     */
+    CategoryImportRow next() throws IOException;
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.imports;
+
+/*
+ * Counts of a single run. Lines at or before the checkpoint of a resumed import are counted as skipped.
+ */
+public record CategoryImportReport(
+        String importId,
+        long rows,
+        long imported,
+        long rejected,
+        long skipped,
+        long lastLine
+) {
+}
@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.imports;
+
+public record CategoryImportRow(
+        long line,
+        String name,
+        String description,
+        Boolean active,
+        String error
+) {
+
+    public static CategoryImportRow with(
+            final long aLine,
+            final String aName,
+            final String aDescription,
+            final Boolean isActive
+    ) {
+        return new CategoryImportRow(aLine, aName, aDescription, isActive, null);
+    }
+
+    public static CategoryImportRow invalid(final long aLine, final String anError) {
+        return new CategoryImportRow(aLine, null, null, null, anError);
+    }
+
+    public boolean isReadable() {
+        return error == null;
+    }
+}
@@ -0,0 +1,266 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.imports;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.utils.CoarseClock;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/*
+ * Loads categories from a CategoryImportReader. Rows are validated one by one and inserted with JDBC batches, each
+ * batch in its own transaction together with the checkpoint in category_imports, so a transaction never spans more
+ * than batch-size lines of the file. Importing the same file again with the same import id skips the lines up to the
+ * checkpoint. Rejected rows go to the error consumer as they are found, nothing of the file is kept around.
+ * While an import runs its thread reads a coarse clock, rows created within the same millisecond share one instant.
+ * An import id is claimed for the whole run, so a second run of the same id is refused instead of racing the first
+ * one for the checkpoint. A claim that has not checkpointed for longer than the lease, as a crashed instance leaves
+ * it, can be taken over.
+ */
+@Component
+public class CategoryImporter {
+
+    private static final String INSERT_CATEGORY = """
+            INSERT INTO category (id, name, description, active, created_at, updated_at, deleted_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String FIND_CHECKPOINT = "SELECT last_line FROM category_imports WHERE id = ?";
+
+    private static final String CREATE_CHECKPOINT = """
+            INSERT INTO category_imports (id, last_line, imported, rejected, running, created_at, updated_at)
+            VALUES (?, 0, 0, 0, TRUE, ?, ?)
+            """;
+
+    private static final String CLAIM_RUN = """
+            UPDATE category_imports SET running = TRUE, updated_at = ?
+            WHERE id = ? AND (running = FALSE OR updated_at < ?)
+            """;
+
+    private static final String RELEASE_RUN = "UPDATE category_imports SET running = FALSE WHERE id = ?";
+
+    private static final String ADVANCE_CHECKPOINT = """
+            UPDATE category_imports
+            SET last_line = ?, imported = imported + ?, rejected = rejected + ?, updated_at = ?
+            WHERE id = ?
+            """;
+
+    private final Clock clock = CoarseClock.of(Clock.systemUTC());
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int batchSize;
+    private final Duration lease;
+
+    @Autowired
+    public CategoryImporter(
+            final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager transactionManager,
+            final EntityManagerFactory entityManagerFactory,
+            @Value("${category.import.batch-size:1000}") final int batchSize,
+            @Value("${category.import.lease:5m}") final Duration lease
+    ) {
+        this(jdbcTemplate, new TransactionTemplate(transactionManager), entityManagerFactory, batchSize, lease);
+    }
+
+    public CategoryImporter(
+            final JdbcTemplate jdbcTemplate,
+            final TransactionTemplate transactionTemplate,
+            final EntityManagerFactory entityManagerFactory,
+            final int batchSize,
+            final Duration lease
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+        this.entityManagerFactory = Objects.requireNonNull(entityManagerFactory);
+        this.batchSize = batchSize;
+        this.lease = Objects.requireNonNull(lease);
+    }
+
+    public CategoryImportReport importFrom(
+            final CategoryImportReader aReader,
+            final String anImportId,
+            final Consumer<CategoryImportError> onError
+    ) throws IOException {
+        return importFrom(aReader, anImportId, claim(anImportId), onError);
+    }
+
+    /*
+     * Runs an import claimed with claim(), from the checkpoint it returned, and releases the claim when done.
+     */
+    public CategoryImportReport importFrom(
+            final CategoryImportReader aReader,
+            final String anImportId,
+            final long aCheckpoint,
+            final Consumer<CategoryImportError> onError
+    ) throws IOException {
+        try (final var ignored = InstantUtils.useClockInCurrentThread(this.clock)) {
+            return doImport(aReader, Objects.requireNonNull(anImportId), aCheckpoint, onError);
+        } finally {
+            this.jdbcTemplate.update(RELEASE_RUN, anImportId);
+        }
+    }
+
+    /*
+     * Marks the import id as running and returns the line it resumes after.
+     */
+    public long claim(final String anImportId) {
+        try {
+            return this.transactionTemplate.execute(status -> startOrResume(Objects.requireNonNull(anImportId)));
+        } catch (final DuplicateKeyException ex) {
+            throw alreadyRunning(anImportId);
+        }
+    }
+
+    private CategoryImportReport doImport(
+            final CategoryImportReader aReader,
+            final String importId,
+            final long checkpoint,
+            final Consumer<CategoryImportError> onError
+    ) throws IOException {
+
+        final var batch = new ArrayList<Category>(this.batchSize);
+        var rows = 0L;
+        var imported = 0L;
+        var rejected = 0L;
+        var skipped = 0L;
+        var pendingRejected = 0L;
+        var lastLine = checkpoint;
+
+        CategoryImportRow aRow;
+        while ((aRow = aReader.next()) != null) {
+            rows++;
+            if (aRow.line() <= checkpoint) {
+                skipped++;
+                continue;
+            }
+            lastLine = aRow.line();
+
+            final var errors = validate(aRow, batch);
+            if (!errors.isEmpty()) {
+                onError.accept(new CategoryImportError(aRow.line(), errors));
+                rejected++;
+                pendingRejected++;
+            }
+
+            if (batch.size() + pendingRejected >= this.batchSize) {
+                flush(importId, batch, lastLine, pendingRejected);
+                imported += batch.size();
+                batch.clear();
+                pendingRejected = 0;
+            }
+        }
+
+        if (lastLine > checkpoint && (!batch.isEmpty() || pendingRejected > 0)) {
+            flush(importId, batch, lastLine, pendingRejected);
+            imported += batch.size();
+        }
+
+        return new CategoryImportReport(importId, rows, imported, rejected, skipped, lastLine);
+    }
+
+    private List<Error> validate(final CategoryImportRow aRow, final List<Category> aBatch) {
+        if (!aRow.isReadable()) {
+            return List.of(new Error(aRow.error()));
+        }
+
+        final var aCategory = Category.newCategory(aRow.name(), aRow.description(), aRow.active() == null || aRow.active());
+        final var notification = Notification.create();
+        aCategory.validate(notification);
+
+        if (notification.hasErrors()) {
+            return notification.getErrors();
+        }
+
+        aBatch.add(aCategory);
+        return List.of();
+    }
+
+    private long startOrResume(final String anImportId) {
+        final var now = InstantUtils.now();
+        final var lastLines = this.jdbcTemplate.queryForList(FIND_CHECKPOINT, Long.class, anImportId);
+        if (lastLines.isEmpty()) {
+            this.jdbcTemplate.update(CREATE_CHECKPOINT, anImportId, timestamp(now), timestamp(now));
+            return 0L;
+        }
+
+        final var claimed = this.jdbcTemplate.update(
+                CLAIM_RUN,
+                timestamp(now),
+                anImportId,
+                timestamp(now.minus(this.lease))
+        );
+        if (claimed == 0) {
+            throw alreadyRunning(anImportId);
+        }
+        return lastLines.get(0);
+    }
+
+    private static DomainException alreadyRunning(final String anImportId) {
+        return DomainException.with(new Error("Import %s is already running".formatted(anImportId)));
+    }
+
+    private void flush(final String anImportId, final List<Category> aBatch, final long aLastLine, final long aRejected) {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.jdbcTemplate.batchUpdate(INSERT_CATEGORY, aBatch, aBatch.size(), (ps, aCategory) -> {
+                ps.setBytes(1, UuidBinaryType.toBytes(aCategory.getId().getValue()));
+                ps.setString(2, aCategory.getName());
+                ps.setString(3, aCategory.getDescription());
+                ps.setBoolean(4, aCategory.isActive());
+                ps.setTimestamp(5, timestamp(aCategory.getCreatedAt()));
+                ps.setTimestamp(6, timestamp(aCategory.getUpdatedAt()));
+                if (aCategory.getDeletedAt() == null) {
+                    ps.setNull(7, Types.TIMESTAMP);
+                } else {
+                    ps.setTimestamp(7, timestamp(aCategory.getDeletedAt()));
+                }
+            });
+            this.jdbcTemplate.update(
+                    ADVANCE_CHECKPOINT,
+                    aLastLine,
+                    aBatch.size(),
+                    aRejected,
+                    timestamp(InstantUtils.now()),
+                    anImportId
+            );
+            evictQueryResultsAfterCommit();
+        });
+    }
+
+    // The inserts bypass Hibernate, cached listings would not see the new categories until they expire
+    private void evictQueryResultsAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().unwrap(Cache.class).evictQueryRegions();
+            }
+        });
+    }
+
+    private static Timestamp timestamp(final Instant anInstant) {
+        return Timestamp.from(anInstant);
+    }
+}
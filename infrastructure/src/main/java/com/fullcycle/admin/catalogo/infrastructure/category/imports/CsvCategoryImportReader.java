@@ -0,0 +1,75 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.imports;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CsvRecordReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+
+/*
+ * The header names the columns, name is required while description and active are optional and others are ignored.
+ */
+public class CsvCategoryImportReader implements CategoryImportReader {
+
+    private final CsvRecordReader reader;
+    private final int nameIndex;
+    private final int descriptionIndex;
+    private final int activeIndex;
+
+    public CsvCategoryImportReader(final Reader aReader) {
+        this.reader = new CsvRecordReader(aReader);
+
+        try {
+            if (!this.reader.next()) {
+                throw DomainException.with(new Error("CSV file is empty, a header with a 'name' column is required"));
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        this.nameIndex = this.reader.indexOf("name");
+        this.descriptionIndex = this.reader.indexOf("description");
+        this.activeIndex = this.reader.indexOf("active");
+
+        if (this.nameIndex < 0) {
+            throw DomainException.with(new Error("CSV header must have a 'name' column"));
+        }
+    }
+
+    @Override
+    public CategoryImportRow next() throws IOException {
+        if (!this.reader.next()) {
+            return null;
+        }
+        if (this.reader.error() != null) {
+            return CategoryImportRow.invalid(this.reader.line(), this.reader.error());
+        }
+
+        final var rawActive = this.reader.field(this.activeIndex);
+        final Boolean isActive;
+        if (rawActive == null || rawActive.isBlank()) {
+            isActive = null;
+        } else if (rawActive.equalsIgnoreCase("true") || rawActive.equals("1")) {
+            isActive = true;
+        } else if (rawActive.equalsIgnoreCase("false") || rawActive.equals("0")) {
+            isActive = false;
+        } else {
+            return CategoryImportRow.invalid(this.reader.line(), "'active' must be true or false");
+        }
+
+        final var aDescription = this.reader.field(this.descriptionIndex);
+        return CategoryImportRow.with(
+                this.reader.line(),
+                this.reader.field(this.nameIndex),
+                aDescription == null || aDescription.isEmpty() ? null : aDescription,
+                isActive
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+}
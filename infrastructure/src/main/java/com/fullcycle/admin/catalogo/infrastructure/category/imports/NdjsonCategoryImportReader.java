@@ -0,0 +1,51 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.utils.NdjsonLineReader;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/*
+ * One JSON object per line, {"name": "Filmes", "description": "...", "active": true}.
+ */
+public class NdjsonCategoryImportReader implements CategoryImportReader {
+
+    private static final ObjectReader ROW_READER = Json.mapper().readerFor(NdjsonRow.class);
+
+    private final NdjsonLineReader reader;
+
+    public NdjsonCategoryImportReader(final Reader aReader) {
+        this.reader = new NdjsonLineReader(aReader);
+    }
+
+    @Override
+    public CategoryImportRow next() throws IOException {
+        if (!this.reader.next()) {
+            return null;
+        }
+        if (this.reader.error() != null) {
+            return CategoryImportRow.invalid(this.reader.line(), this.reader.error());
+        }
+
+        try {
+            final NdjsonRow aRow = this.reader.read(ROW_READER);
+            if (aRow == null) {
+                return CategoryImportRow.invalid(this.reader.line(), "expected a JSON object");
+            }
+            return CategoryImportRow.with(this.reader.line(), aRow.name(), aRow.description(), aRow.active());
+        } catch (final JsonProcessingException ex) {
+            return CategoryImportRow.invalid(this.reader.line(), "malformed JSON: " + ex.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    record NdjsonRow(String name, String description, Boolean active) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.category.models;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.category.CategoryRow;
 
 import java.time.Instant;
 
@@ -12,4 +13,14 @@ public record CategoryListResponse(
         @JsonProperty("created_at") Instant createdAt,
         @JsonProperty("deleted_at") Instant deletedAt
 ) {
+    public static CategoryListResponse from(final CategoryRow aRow) {
+        return new CategoryListResponse(
+                aRow.id(),
+                aRow.name(),
+                aRow.description(),
+                aRow.active(),
+                aRow.createdAt(),
+                aRow.deletedAt()
+        );
+    }
 }
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+public interface CategoryDeletionClaimRepository {
+
+    /*
+     * Locks the deletion row of a category and its category row until the current transaction ends. A row another
+     * instance already holds is skipped rather than waited for.
+     */
+    Claim claim(String aCategoryId);
+
+    enum Claim {
+        // both rows are locked and the category is still marked as deleted
+        CLAIMED,
+        // another instance holds the deletion row, or it was already removed
+        TAKEN,
+        // the category lost its deletion mark, or is already gone
+        UNMARKED
+    }
+}
@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import org.hibernate.Session;
+
+import javax.persistence.EntityManager;
+import java.util.Objects;
+
+public class CategoryDeletionClaimRepositoryImpl implements CategoryDeletionClaimRepository {
+
+    private static final String LOCK_DELETION = "SELECT category_id FROM category_deletions WHERE category_id = ? FOR UPDATE";
+    private static final String LOCK_MARK = "SELECT deleted_at FROM category WHERE id = ? FOR UPDATE";
+
+    private final EntityManager entityManager;
+    private volatile String lockDeletion;
+
+    public CategoryDeletionClaimRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    @Override
+    public Claim claim(final String aCategoryId) {
+        final var anId = UuidBinaryType.toBytes(aCategoryId);
+
+        final var deletions = this.entityManager.createNativeQuery(lockDeletion())
+                .setParameter(1, anId)
+                .getResultList();
+        if (deletions.isEmpty()) {
+            return Claim.TAKEN;
+        }
+
+        final var marks = this.entityManager.createNativeQuery(LOCK_MARK)
+                .setParameter(1, anId)
+                .getResultList();
+        return marks.isEmpty() || marks.get(0) == null ? Claim.UNMARKED : Claim.CLAIMED;
+    }
+
+    // Tests run on H2, which has no SKIP LOCKED and waits for the lock instead
+    private String lockDeletion() {
+        if (this.lockDeletion == null) {
+            final var aProduct = this.entityManager.unwrap(Session.class)
+                    .doReturningWork(aConnection -> aConnection.getMetaData().getDatabaseProductName());
+            this.lockDeletion = "H2".equalsIgnoreCase(aProduct) ? LOCK_DELETION : LOCK_DELETION + " SKIP LOCKED";
+        }
+        return this.lockDeletion;
+    }
+}
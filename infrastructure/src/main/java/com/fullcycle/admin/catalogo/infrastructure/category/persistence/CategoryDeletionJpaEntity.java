@@ -0,0 +1,75 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import org.hibernate.annotations.Type;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity
+@Table(name = "category_deletions")
+public class CategoryDeletionJpaEntity {
+
+    @Id
+    @Type(type = UuidBinaryType.NAME)
+    @Column(name = "category_id", nullable = false, columnDefinition = "BINARY(16)")
+    private String categoryId;
+
+    @Column(name = "removed_links", nullable = false)
+    private long removedLinks;
+
+    @Column(name = "requested_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant requestedAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    public CategoryDeletionJpaEntity() {
+    }
+
+    private CategoryDeletionJpaEntity(final String aCategoryId, final Instant requestedAt) {
+        this.categoryId = aCategoryId;
+        this.removedLinks = 0;
+        this.requestedAt = requestedAt;
+        this.updatedAt = requestedAt;
+    }
+
+    public static CategoryDeletionJpaEntity requested(final String aCategoryId, final Instant requestedAt) {
+        return new CategoryDeletionJpaEntity(aCategoryId, requestedAt);
+    }
+
+    public String getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(String categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public long getRemovedLinks() {
+        return removedLinks;
+    }
+
+    public void setRemovedLinks(long removedLinks) {
+        this.removedLinks = removedLinks;
+    }
+
+    public Instant getRequestedAt() {
+        return requestedAt;
+    }
+
+    public void setRequestedAt(Instant requestedAt) {
+        this.requestedAt = requestedAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface CategoryDeletionRepository
+        extends JpaRepository<CategoryDeletionJpaEntity, String>, CategoryDeletionClaimRepository {
+
+    @Query("SELECT d.categoryId FROM CategoryDeletionJpaEntity d ORDER BY d.requestedAt ASC")
+    List<String> findPendingCategoryIds(Pageable page);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE CategoryDeletionJpaEntity d
+            SET d.removedLinks = d.removedLinks + :removed, d.updatedAt = :now
+            WHERE d.categoryId = :categoryId
+            """)
+    int addRemovedLinks(
+            @Param("categoryId") String aCategoryId,
+            @Param("removed") long removed,
+            @Param("now") Instant now
+    );
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CategoryDeletionJpaEntity d WHERE d.categoryId = :categoryId")
+    int deleteRowByCategoryId(@Param("categoryId") String aCategoryId);
+}
@@ -2,18 +2,31 @@ package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import java.time.Instant;
 
 @Entity
 @Table(name = "category")
-public class CategoryJpaEntity {
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CategoryJpaEntity.CACHE_REGION)
+public class CategoryJpaEntity implements Persistable<String> {
+
+    public static final String CACHE_REGION = "category";
 
     @Id
+    @Type(type = UuidBinaryType.NAME)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -34,6 +47,9 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Transient
+    private boolean isNew;
+
     public CategoryJpaEntity() {
     }
 
@@ -67,6 +83,21 @@ public class CategoryJpaEntity {
         );
     }
 
+    public static CategoryJpaEntity newEntity(final Category aCategory) {
+        final var anEntity = from(aCategory);
+        anEntity.isNew = true;
+        return anEntity;
+    }
+
+    public CategoryJpaEntity update(final Category aCategory) {
+        this.name = aCategory.getName();
+        this.description = aCategory.getDescription();
+        this.active = aCategory.isActive();
+        this.updatedAt = aCategory.getUpdatedAt();
+        this.deletedAt = aCategory.getDeletedAt();
+        return this;
+    }
+
     public Category toAggregate() {
         return Category.with(
                 CategoryID.from(getId()),
@@ -79,10 +110,22 @@ public class CategoryJpaEntity {
         );
     }
 
+    @Override
     public String getId() {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public void setId(String id) {
         this.id = id;
     }
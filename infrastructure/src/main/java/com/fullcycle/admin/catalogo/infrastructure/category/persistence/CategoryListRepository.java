@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface CategoryListRepository {
+    Page<CategoryListRow> findAllRows(Specification<CategoryJpaEntity> whereClause, Pageable page);
+}
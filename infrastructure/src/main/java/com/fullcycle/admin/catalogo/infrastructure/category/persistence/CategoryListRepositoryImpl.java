@@ -0,0 +1,69 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import org.hibernate.annotations.QueryHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import java.util.Objects;
+
+public class CategoryListRepositoryImpl implements CategoryListRepository {
+
+    private final EntityManager entityManager;
+
+    public CategoryListRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    @Override
+    public Page<CategoryListRow> findAllRows(final Specification<CategoryJpaEntity> whereClause, final Pageable page) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(CategoryListRow.class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        query.select(cb.construct(
+                CategoryListRow.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("description"),
+                root.get("active"),
+                root.get("createdAt"),
+                root.get("deletedAt")
+        ));
+
+        final var predicate = whereClause != null ? whereClause.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(page.getSort(), root, cb));
+
+        final var rows = this.entityManager.createQuery(query)
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize())
+                .setHint(QueryHints.READ_ONLY, true)
+                .setHint(QueryHints.CACHEABLE, true)
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(rows, page, () -> count(whereClause));
+    }
+
+    private long count(final Specification<CategoryJpaEntity> whereClause) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(Long.class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        query.select(cb.count(root));
+
+        final var predicate = whereClause != null ? whereClause.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return this.entityManager.createQuery(query)
+                .setHint(QueryHints.CACHEABLE, true)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryRow;
+
+import java.time.Instant;
+
+public record CategoryListRow(
+        String id,
+        String name,
+        String description,
+        boolean active,
+        Instant createdAt,
+        Instant deletedAt
+) implements CategoryRow {
+}
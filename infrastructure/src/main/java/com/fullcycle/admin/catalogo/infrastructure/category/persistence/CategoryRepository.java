@@ -4,7 +4,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+
+public interface CategoryRepository
+        extends JpaRepository<CategoryJpaEntity, String>, CategoryListRepository, CategoryRowDeletionRepository {
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"))
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
+
+    @Query("SELECT c.id FROM CategoryJpaEntity c WHERE c.id IN :ids")
+    List<String> existsByIds(@Param("ids") Collection<String> ids);
 }
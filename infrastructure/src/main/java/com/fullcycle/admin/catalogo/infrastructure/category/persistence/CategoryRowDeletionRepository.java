@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+public interface CategoryRowDeletionRepository {
+
+    /*
+     * Deletes the rows with a single statement and returns how many were found. The second-level cache is left as it
+     * was: the caller evicts the deleted entries once the transaction commits.
+     */
+    @Transactional
+    int deleteRowsByIdIn(Collection<String> ids);
+}
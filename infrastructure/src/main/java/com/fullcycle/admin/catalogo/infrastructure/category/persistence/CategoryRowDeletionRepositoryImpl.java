@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import org.hibernate.query.NativeQuery;
+
+import javax.persistence.EntityManager;
+import java.util.Collection;
+import java.util.Objects;
+
+/*
+ * A JPQL bulk DELETE makes Hibernate evict the whole category region, and a native one synchronized on the category
+ * table does the same. This statement is synchronized on a query space no entity maps, so Hibernate evicts nothing.
+ */
+public class CategoryRowDeletionRepositoryImpl implements CategoryRowDeletionRepository {
+
+    private static final String DELETE_ROWS = "DELETE FROM category WHERE id IN (:ids)";
+    private static final String DELETE_ROWS_SPACE = "category_row_deletion";
+
+    private final EntityManager entityManager;
+
+    public CategoryRowDeletionRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    @Override
+    public int deleteRowsByIdIn(final Collection<String> ids) {
+        // the JPQL statement flushed pending changes to the category table first, this one only sees its own space
+        this.entityManager.flush();
+
+        return this.entityManager.createNativeQuery(DELETE_ROWS)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(DELETE_ROWS_SPACE)
+                .setParameterList("ids", CollectionUtils.mapTo(ids, UuidBinaryType::toBytes))
+                .executeUpdate();
+    }
+}
@@ -2,8 +2,10 @@ package com.fullcycle.admin.catalogo.infrastructure.configuration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.observability.InstrumentedJsonHttpMessageConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 
 @Configuration
 public class ObjectMapperConfig {
@@ -12,4 +14,9 @@ public class ObjectMapperConfig {
     public ObjectMapper objectMapper() {
         return Json.mapper();
     }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter jsonHttpMessageConverter(final ObjectMapper objectMapper) {
+        return new InstrumentedJsonHttpMessageConverter(objectMapper);
+    }
 }
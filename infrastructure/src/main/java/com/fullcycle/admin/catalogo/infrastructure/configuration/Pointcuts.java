@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+public final class Pointcuts {
+    private Pointcuts() {
+    }
+
+    public static final String GATEWAY_CALLS =
+            "execution(public * com.fullcycle.admin.catalogo.domain.category.CategoryGateway+.*(..))"
+            + " || execution(public * com.fullcycle.admin.catalogo.domain.genre.GenreGateway+.*(..))";
+
+    public static final String USE_CASE_EXECUTIONS =
+            "execution(public * com.fullcycle.admin.catalogo.application.UseCase+.execute(..))"
+            + " || execution(public * com.fullcycle.admin.catalogo.application.UnitUseCase+.execute(..))"
+            + " || execution(public * com.fullcycle.admin.catalogo.application.NullaryUseCase+.execute(..))";
+
+    public static final String QUERY_USE_CASE_EXECUTIONS =
+            "execution(public * com.fullcycle.admin.catalogo.application..retrieve..*UseCase+.execute(..))";
+
+    public static final String DATABASE_CALLS = QUERY_USE_CASE_EXECUTIONS + " || " + GATEWAY_CALLS;
+}
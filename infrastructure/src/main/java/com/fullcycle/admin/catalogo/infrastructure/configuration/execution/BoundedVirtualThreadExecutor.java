@@ -0,0 +1,103 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.execution;
+
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/*
+ * Runs every task on its own virtual thread. Virtual threads are unbounded, so a semaphore caps how many tasks are in
+ * flight; a task submitted beyond the cap goes to the saturation policy, the same way a full ThreadPoolExecutor queue
+ * goes to its RejectedExecutionHandler.
+ */
+public class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    private final int maxInFlight;
+    private final TaskDecorator decorator;
+    private final Consumer<Runnable> onSaturated;
+
+    public BoundedVirtualThreadExecutor(
+            final ExecutorService delegate,
+            final int maxInFlight,
+            final TaskDecorator decorator,
+            final Consumer<Runnable> onSaturated
+    ) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.permits = new Semaphore(maxInFlight);
+        this.maxInFlight = maxInFlight;
+        this.decorator = Objects.requireNonNull(decorator);
+        this.onSaturated = Objects.requireNonNull(onSaturated);
+    }
+
+    public static Consumer<Runnable> abort() {
+        return aTask -> {
+            throw new RejectedExecutionException("Too many use cases in flight");
+        };
+    }
+
+    public static Consumer<Runnable> callerRuns() {
+        return Runnable::run;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        final var aTask = this.decorator.decorate(command);
+        if (!this.permits.tryAcquire()) {
+            this.onSaturated.accept(aTask);
+            return;
+        }
+
+        try {
+            this.delegate.execute(() -> {
+                try {
+                    aTask.run();
+                } finally {
+                    this.permits.release();
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            this.permits.release();
+            throw ex;
+        }
+    }
+
+    public int inFlight() {
+        return this.maxInFlight - this.permits.availablePermits();
+    }
+
+    @Override
+    public void shutdown() {
+        this.delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return this.delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return this.delegate.awaitTermination(timeout, unit);
+    }
+}
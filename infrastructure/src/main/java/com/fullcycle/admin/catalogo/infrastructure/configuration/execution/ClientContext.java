@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.execution;
+
+public final class ClientContext {
+
+    private static final ThreadLocal<String> CLIENT = new ThreadLocal<>();
+
+    private ClientContext() {
+    }
+
+    public static String current() {
+        return CLIENT.get();
+    }
+
+    public static void set(final String aClient) {
+        CLIENT.set(aClient);
+    }
+
+    public static void clear() {
+        CLIENT.remove();
+    }
+
+    public static Runnable wrap(final Runnable aTask) {
+        final var aClient = current();
+        if (aClient == null) {
+            return aTask;
+        }
+
+        return () -> {
+            final var previous = current();
+            set(aClient);
+            try {
+                aTask.run();
+            } finally {
+                if (previous == null) {
+                    clear();
+                } else {
+                    set(previous);
+                }
+            }
+        };
+    }
+}
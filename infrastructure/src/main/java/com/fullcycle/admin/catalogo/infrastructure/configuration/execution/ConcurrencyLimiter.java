@@ -0,0 +1,194 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.execution;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/*
+ * AIMD limit on concurrent database calls. Every completed call is one latency sample compared against a slowly
+ * moving average of previous samples of the same call, so a page listing is never measured against a lookup by id:
+ * a sample above tolerance times its average, or a call that failed because the database was saturated, cuts the
+ * limit by the backoff ratio; otherwise a busy limiter grows by 1/limit, about one slot per round of calls.
+ * Callers over the limit wait in FIFO order until their deadline, and are rejected right away once the queue is full.
+ */
+public class ConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int AVERAGE_WINDOW = 100;
+    private static final Object ANY_CALL = new Object();
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final double tolerance;
+    private final LongSupplier nanoTime;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition slotFreed = lock.newCondition();
+    private final LongAdder rejected = new LongAdder();
+    private final Map<Object, double[]> averageLatencyNanos = new HashMap<>();
+
+    private volatile double limit;
+    private volatile int inFlight;
+    private volatile int queued;
+
+    private ConcurrencyLimiter(
+            final int minLimit,
+            final int initialLimit,
+            final int maxLimit,
+            final int maxQueue,
+            final double tolerance,
+            final LongSupplier nanoTime
+    ) {
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException(
+                    "Expected 1 <= min <= initial <= max, got %d, %d, %d".formatted(minLimit, initialLimit, maxLimit)
+            );
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+        this.tolerance = tolerance;
+        this.limit = initialLimit;
+        this.nanoTime = nanoTime;
+    }
+
+    public static ConcurrencyLimiter fixed(final int aLimit, final int maxQueue) {
+        return new ConcurrencyLimiter(aLimit, aLimit, aLimit, maxQueue, Double.POSITIVE_INFINITY, System::nanoTime);
+    }
+
+    public static ConcurrencyLimiter adaptive(
+            final int minLimit,
+            final int initialLimit,
+            final int maxLimit,
+            final int maxQueue,
+            final double tolerance
+    ) {
+        return adaptive(minLimit, initialLimit, maxLimit, maxQueue, tolerance, System::nanoTime);
+    }
+
+    static ConcurrencyLimiter adaptive(
+            final int minLimit,
+            final int initialLimit,
+            final int maxLimit,
+            final int maxQueue,
+            final double tolerance,
+            final LongSupplier nanoTime
+    ) {
+        return new ConcurrencyLimiter(minLimit, initialLimit, maxLimit, maxQueue, tolerance, nanoTime);
+    }
+
+    public Permit acquire(final Duration aTimeout) {
+        return acquire(ANY_CALL, aTimeout);
+    }
+
+    public Permit acquire(final Object aCall, final Duration aTimeout) {
+        this.lock.lock();
+        try {
+            if (this.inFlight < currentLimit()) {
+                this.inFlight++;
+                return new Permit(aCall, this.nanoTime.getAsLong());
+            }
+
+            if (this.queued >= this.maxQueue) {
+                this.rejected.increment();
+                throw DatabaseOverloadedException.queueFull(this.queued);
+            }
+
+            this.queued++;
+            try {
+                var remaining = aTimeout.toNanos();
+                while (this.inFlight >= currentLimit()) {
+                    if (remaining <= 0) {
+                        this.rejected.increment();
+                        throw DatabaseOverloadedException.with(aTimeout.toMillis());
+                    }
+                    remaining = this.slotFreed.awaitNanos(remaining);
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                this.rejected.increment();
+                throw DatabaseOverloadedException.with(aTimeout.toMillis());
+            } finally {
+                this.queued--;
+            }
+
+            this.inFlight++;
+            return new Permit(aCall, this.nanoTime.getAsLong());
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int limit() {
+        return currentLimit();
+    }
+
+    public int inFlight() {
+        return this.inFlight;
+    }
+
+    public int queued() {
+        return this.queued;
+    }
+
+    public long rejected() {
+        return this.rejected.sum();
+    }
+
+    private int currentLimit() {
+        return (int) this.limit;
+    }
+
+    private void release(final Object aCall, final long latencyNanos, final boolean dropped) {
+        this.lock.lock();
+        try {
+            final var busy = this.inFlight >= currentLimit() / 2;
+            this.inFlight--;
+
+            final var anAverage = this.averageLatencyNanos.computeIfAbsent(aCall, key -> new double[]{latencyNanos});
+
+            final var previousLimit = currentLimit();
+            if (dropped || latencyNanos > anAverage[0] * this.tolerance) {
+                this.limit = Math.max(this.minLimit, this.limit * BACKOFF_RATIO);
+            } else if (busy) {
+                this.limit = Math.min(this.maxLimit, this.limit + 1.0 / this.limit);
+            }
+
+            anAverage[0] += (latencyNanos - anAverage[0]) / AVERAGE_WINDOW;
+
+            if (currentLimit() > previousLimit) {
+                this.slotFreed.signalAll();
+            } else {
+                this.slotFreed.signal();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public final class Permit {
+
+        private final Object call;
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(final Object call, final long startNanos) {
+            this.call = call;
+            this.startNanos = startNanos;
+        }
+
+        public void release(final boolean dropped) {
+            if (this.released) {
+                return;
+            }
+            this.released = true;
+            final var latencyNanos = ConcurrencyLimiter.this.nanoTime.getAsLong() - this.startNanos;
+            ConcurrencyLimiter.this.release(this.call, latencyNanos, dropped);
+        }
+    }
+}
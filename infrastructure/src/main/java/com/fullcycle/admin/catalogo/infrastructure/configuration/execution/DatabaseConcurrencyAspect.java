@@ -0,0 +1,79 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.execution;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.Pointcuts;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Objects;
+
+/*
+ * Takes the permit before anything borrows a connection: read-only use cases open their transaction in
+ * ReadOnlyTransactionAspect and write gateway calls in @Transactional, so this aspect runs ahead of both.
+ * The outermost call of a thread holds the permit and the gateway calls nested inside it reuse it.
+ */
+@Aspect
+public class DatabaseConcurrencyAspect implements Ordered {
+
+    private final ThreadLocal<ConcurrencyLimiter.Permit> held = new ThreadLocal<>();
+    private final ConcurrencyLimiter limiter;
+    private final Duration acquireTimeout;
+
+    public DatabaseConcurrencyAspect(final int maxConcurrency, final Duration acquireTimeout) {
+        this(ConcurrencyLimiter.fixed(maxConcurrency, Integer.MAX_VALUE), acquireTimeout);
+    }
+
+    public DatabaseConcurrencyAspect(final ConcurrencyLimiter limiter, final Duration acquireTimeout) {
+        this.limiter = Objects.requireNonNull(limiter);
+        this.acquireTimeout = Objects.requireNonNull(acquireTimeout);
+    }
+
+    @Around(Pointcuts.DATABASE_CALLS)
+    public Object limit(final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (this.held.get() != null) {
+            return joinPoint.proceed();
+        }
+
+        final var aMethod = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        final var aCall = new Call(joinPoint.getTarget().getClass(), aMethod);
+        final var permit = this.limiter.acquire(aCall, this.acquireTimeout);
+        this.held.set(permit);
+        var dropped = false;
+
+        try {
+            return joinPoint.proceed();
+        } catch (final TransientDataAccessException
+                       | CannotCreateTransactionException
+                       | CannotGetJdbcConnectionException ex) {
+            dropped = true;
+            throw ex;
+        } finally {
+            this.held.remove();
+            permit.release(dropped);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    public int availablePermits() {
+        return this.limiter.limit() - this.limiter.inFlight();
+    }
+
+    public ConcurrencyLimiter limiter() {
+        return this.limiter;
+    }
+
+    // Latency baseline key: the same method is a different call on each use case or gateway implementing it
+    private record Call(Class<?> target, Method method) {
+    }
+}
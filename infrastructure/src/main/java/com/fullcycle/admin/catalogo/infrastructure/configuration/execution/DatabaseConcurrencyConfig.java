@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.execution;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnExpression("'${execution.database.limiter:adaptive}' != 'none' or '${execution.mode:platform}' == 'virtual'")
+public class DatabaseConcurrencyConfig {
+
+    @Bean
+    public DatabaseConcurrencyAspect databaseConcurrencyAspect(
+            @Value("${execution.database.limiter:adaptive}") final String aMode,
+            @Value("${execution.database.min-concurrency:2}") final int minConcurrency,
+            @Value("${execution.database.initial-concurrency:10}") final int initialConcurrency,
+            @Value("${execution.database.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}") final int maxConcurrency,
+            @Value("${execution.database.max-queue:64}") final int maxQueue,
+            @Value("${execution.database.latency-tolerance:2.0}") final double latencyTolerance,
+            @Value("${execution.database.acquire-timeout:1s}") final Duration acquireTimeout,
+            final ObjectProvider<MeterRegistry> registry
+    ) {
+        final var aLimiter = "adaptive".equals(aMode)
+                ? ConcurrencyLimiter.adaptive(
+                        minConcurrency,
+                        Math.min(initialConcurrency, maxConcurrency),
+                        maxConcurrency,
+                        maxQueue,
+                        latencyTolerance
+                )
+                : ConcurrencyLimiter.fixed(maxConcurrency, maxQueue);
+
+        registry.ifAvailable(aRegistry -> {
+            Gauge.builder("catalog.db.limiter.limit", aLimiter, ConcurrencyLimiter::limit)
+                    .description("Concurrent gateway calls currently allowed")
+                    .register(aRegistry);
+            Gauge.builder("catalog.db.limiter.in-flight", aLimiter, ConcurrencyLimiter::inFlight)
+                    .register(aRegistry);
+            Gauge.builder("catalog.db.limiter.queued", aLimiter, ConcurrencyLimiter::queued)
+                    .description("Gateway calls waiting for a slot")
+                    .register(aRegistry);
+            FunctionCounter.builder("catalog.db.limiter.rejected", aLimiter, ConcurrencyLimiter::rejected)
+                    .description("Gateway calls shed with 503")
+                    .register(aRegistry);
+        });
+
+        return new DatabaseConcurrencyAspect(aLimiter, acquireTimeout);
+    }
+}
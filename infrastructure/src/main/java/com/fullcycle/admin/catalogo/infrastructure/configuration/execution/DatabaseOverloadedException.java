@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.execution;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NoStacktraceException;
+
+public class DatabaseOverloadedException extends NoStacktraceException {
+
+    public DatabaseOverloadedException(final String aMessage) {
+        super(aMessage);
+    }
+
+    public static DatabaseOverloadedException with(final long aTimeoutMillis) {
+        return new DatabaseOverloadedException(
+                "Could not acquire a database slot within %d ms".formatted(aTimeoutMillis)
+        );
+    }
+
+    public static DatabaseOverloadedException queueFull(final int aQueued) {
+        return new DatabaseOverloadedException(
+                "Database is overloaded, %d calls already waiting for a slot".formatted(aQueued)
+        );
+    }
+
+    public static DatabaseOverloadedException noConnection() {
+        return new DatabaseOverloadedException("Database is overloaded, no connection available");
+    }
+}
@@ -0,0 +1,34 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.execution;
+
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class DecoratingThreadPoolExecutor extends ThreadPoolExecutor {
+
+    private final TaskDecorator decorator;
+
+    public DecoratingThreadPoolExecutor(
+            final int corePoolSize,
+            final int maximumPoolSize,
+            final long keepAliveTime,
+            final TimeUnit unit,
+            final BlockingQueue<Runnable> workQueue,
+            final ThreadFactory threadFactory,
+            final RejectedExecutionHandler handler,
+            final TaskDecorator decorator
+    ) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+        this.decorator = Objects.requireNonNull(decorator);
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        super.execute(this.decorator.decorate(command));
+    }
+}
@@ -0,0 +1,119 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.execution;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * In execution.mode=virtual both executors start a virtual thread per task instead of keeping a platform pool. They
+ * admit as many tasks at once as the platform pool would hold running and queued, max-size + queue-capacity.
+ */
+@Configuration
+public class UseCaseExecutorConfig {
+
+    public static final String USE_CASE_EXECUTOR = "useCaseExecutor";
+    public static final String FAN_OUT_EXECUTOR = "fanOutExecutor";
+
+    @Bean(name = USE_CASE_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService useCaseExecutor(
+            @Value("${execution.mode:platform}") final String mode,
+            @Value("${execution.use-cases.core-size:16}") final int coreSize,
+            @Value("${execution.use-cases.max-size:16}") final int maxSize,
+            @Value("${execution.use-cases.queue-capacity:256}") final int queueCapacity,
+            @Value("${execution.use-cases.keep-alive:60s}") final Duration keepAlive,
+            final ObjectProvider<MeterRegistry> registry
+    ) {
+        final var aVirtualExecutor = virtualThreads(mode)
+                .map(aDelegate -> new BoundedVirtualThreadExecutor(
+                        aDelegate,
+                        maxSize + queueCapacity,
+                        ClientContext::wrap,
+                        BoundedVirtualThreadExecutor.abort()
+                ));
+        if (aVirtualExecutor.isPresent()) {
+            return bindInFlight(aVirtualExecutor.get(), "catalog.use-cases", registry);
+        }
+
+        final var anExecutor = new DecoratingThreadPoolExecutor(
+                coreSize,
+                maxSize,
+                keepAlive.toMillis(),
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("use-case-"),
+                new ThreadPoolExecutor.AbortPolicy(),
+                ClientContext::wrap
+        );
+
+        registry.ifAvailable(aRegistry ->
+                new ExecutorServiceMetrics(anExecutor, "catalog.use-cases", Tags.empty()).bindTo(aRegistry)
+        );
+
+        return anExecutor;
+    }
+
+    @Bean(name = FAN_OUT_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService fanOutExecutor(
+            @Value("${execution.mode:platform}") final String mode,
+            @Value("${execution.fan-out.size:8}") final int size,
+            @Value("${execution.fan-out.queue-capacity:64}") final int queueCapacity,
+            final ObjectProvider<MeterRegistry> registry
+    ) {
+        final var aVirtualExecutor = virtualThreads(mode)
+                .map(aDelegate -> new BoundedVirtualThreadExecutor(
+                        aDelegate,
+                        size + queueCapacity,
+                        ClientContext::wrap,
+                        BoundedVirtualThreadExecutor.callerRuns()
+                ));
+        if (aVirtualExecutor.isPresent()) {
+            return bindInFlight(aVirtualExecutor.get(), "catalog.fan-out", registry);
+        }
+
+        final var anExecutor = new DecoratingThreadPoolExecutor(
+                size,
+                size,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("fan-out-"),
+                new ThreadPoolExecutor.CallerRunsPolicy(),
+                ClientContext::wrap
+        );
+
+        registry.ifAvailable(aRegistry ->
+                new ExecutorServiceMetrics(anExecutor, "catalog.fan-out", Tags.empty()).bindTo(aRegistry)
+        );
+
+        return anExecutor;
+    }
+
+    private static Optional<ExecutorService> virtualThreads(final String mode) {
+        return "virtual".equals(mode) ? VirtualThreads.newVirtualThreadPerTaskExecutor() : Optional.empty();
+    }
+
+    private static ExecutorService bindInFlight(
+            final BoundedVirtualThreadExecutor anExecutor,
+            final String aName,
+            final ObjectProvider<MeterRegistry> registry
+    ) {
+        registry.ifAvailable(aRegistry ->
+                Gauge.builder(aName + ".in-flight", anExecutor, BoundedVirtualThreadExecutor::inFlight)
+                        .register(aRegistry)
+        );
+        return anExecutor;
+    }
+}
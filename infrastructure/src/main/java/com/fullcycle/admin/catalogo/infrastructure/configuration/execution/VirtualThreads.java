@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.execution;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public final class VirtualThreads {
+    private VirtualThreads() {
+    }
+
+    public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        try {
+            final var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((ExecutorService) factory.invoke(null));
+        } catch (final ReflectiveOperationException | UnsupportedOperationException ex) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.execution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.undertow.UndertowDeploymentInfoCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "execution.mode", havingValue = "virtual")
+public class VirtualThreadsConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsConfig.class);
+
+    @Bean
+    public UndertowDeploymentInfoCustomizer virtualThreadsDeploymentInfoCustomizer() {
+        return deploymentInfo -> VirtualThreads.newVirtualThreadPerTaskExecutor()
+                .ifPresentOrElse(
+                        deploymentInfo::setExecutor,
+                        () -> log.warn("execution.mode=virtual requires a JDK with virtual threads, "
+                                + "keeping the Undertow worker pool")
+                );
+    }
+}
@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.observability;
+
+import jdk.jfr.Recording;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "observability.jfr.enabled", havingValue = "true")
+public class FlightRecorderConfig {
+
+    public static final String SETTINGS_LOCATION = "classpath:jfr/catalog.jfc";
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public Recording catalogRecording(
+            @Value(SETTINGS_LOCATION) final Resource settings,
+            @Value("${observability.jfr.destination:catalog.jfr}") final Path destination,
+            @Value("${observability.jfr.max-age:1h}") final Duration maxAge
+    ) throws IOException, ParseException {
+        final var aRecording = new Recording(loadSettings(settings));
+        aRecording.setName("catalog");
+        aRecording.setMaxAge(maxAge);
+        aRecording.setDestination(destination);
+        aRecording.setDumpOnExit(true);
+        return aRecording;
+    }
+
+    public static jdk.jfr.Configuration loadSettings(final Resource settings) throws IOException, ParseException {
+        try (final var reader = new InputStreamReader(settings.getInputStream(), StandardCharsets.UTF_8)) {
+            return jdk.jfr.Configuration.create(reader);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("catalog.GatewayCall")
+@Label("Gateway Call")
+@Description("A call to a CategoryGateway or GenreGateway implementation")
+@Category({"Catalog", "Gateways"})
+public class GatewayCallEvent extends Event {
+
+    @Label("Gateway")
+    String gateway;
+
+    @Label("Method")
+    String method;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Rows")
+    long rows;
+
+    @Label("Statements")
+    long statements;
+}
@@ -0,0 +1,161 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.observability;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.Pointcuts;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Aspect
+@Component
+public class GatewayMetricsAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(GatewayMetricsAspect.class);
+
+    private final MeterRegistry registry;
+    private final Duration slowCallThreshold;
+
+    @Autowired
+    public GatewayMetricsAspect(
+            final ObjectProvider<MeterRegistry> registry,
+            @Value("${observability.gateway.slow-call-threshold:200ms}") final Duration slowCallThreshold
+    ) {
+        this(registry.getIfAvailable(() -> Metrics.globalRegistry), slowCallThreshold);
+    }
+
+    public GatewayMetricsAspect(final MeterRegistry registry, final Duration slowCallThreshold) {
+        this.registry = Objects.requireNonNull(registry);
+        this.slowCallThreshold = Objects.requireNonNull(slowCallThreshold);
+    }
+
+    @Around(Pointcuts.GATEWAY_CALLS)
+    public Object measure(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final var gateway = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        final var method = joinPoint.getSignature().getName();
+        final var statementsBefore = StatementCounter.current();
+        final var event = new GatewayCallEvent();
+        final var start = System.nanoTime();
+
+        event.begin();
+
+        var outcome = "success";
+        Object result = null;
+
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (final Throwable t) {
+            outcome = "error";
+            throw t;
+        } finally {
+            event.end();
+
+            final var elapsed = System.nanoTime() - start;
+            final var statements = StatementCounter.current() - statementsBefore;
+            final var rows = rowsOf(result);
+
+            record(gateway, method, outcome, elapsed, rows, statements);
+
+            if (event.shouldCommit()) {
+                event.gateway = gateway;
+                event.method = method;
+                event.outcome = outcome;
+                event.rows = rows;
+                event.statements = statements;
+                event.commit();
+            }
+
+            if (elapsed >= this.slowCallThreshold.toNanos()) {
+                log.warn(
+                        "Slow gateway call {}.{} took {} ms [outcome={}, rows={}, statements={}, query={}]",
+                        gateway,
+                        method,
+                        TimeUnit.NANOSECONDS.toMillis(elapsed),
+                        outcome,
+                        rows,
+                        statements,
+                        normalizedQuery(joinPoint.getArgs())
+                );
+            }
+        }
+    }
+
+    private void record(
+            final String gateway,
+            final String method,
+            final String outcome,
+            final long elapsed,
+            final long rows,
+            final long statements
+    ) {
+        Timer.builder("catalog.gateway.calls")
+                .tag("gateway", gateway)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(this.registry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder("catalog.gateway.rows")
+                .tag("gateway", gateway)
+                .tag("method", method)
+                .register(this.registry)
+                .record(rows);
+
+        DistributionSummary.builder("catalog.gateway.statements")
+                .tag("gateway", gateway)
+                .tag("method", method)
+                .register(this.registry)
+                .record(statements);
+    }
+
+    private static long rowsOf(final Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Pagination<?> aPage) {
+            return aPage.items().size();
+        }
+        if (result instanceof Collection<?> aCollection) {
+            return aCollection.size();
+        }
+        if (result instanceof Optional<?> anOptional) {
+            return anOptional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+
+    private static String normalizedQuery(final Object[] args) {
+        for (final var arg : args) {
+            if (arg instanceof SearchQuery aQuery) {
+                return "SearchQuery[page=%d, perPage=%d, terms=%s, sort=%s, direction=%s, active=%s, deleted=%s, after=%s]".formatted(
+                        aQuery.page(),
+                        aQuery.perPage(),
+                        aQuery.terms() == null || aQuery.terms().isBlank() ? "" : "?",
+                        aQuery.sort(),
+                        aQuery.direction(),
+                        aQuery.active(),
+                        aQuery.deleted(),
+                        aQuery.hasAfter() ? "?" : ""
+                );
+            }
+        }
+        return "-";
+    }
+}
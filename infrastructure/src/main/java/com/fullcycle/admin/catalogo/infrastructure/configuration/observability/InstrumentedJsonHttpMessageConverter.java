@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.observability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+public class InstrumentedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public InstrumentedJsonHttpMessageConverter(final ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(final Object object, final Type type, final HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        final var event = new JsonWriteEvent();
+
+        if (!event.isEnabled()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        event.begin();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.type = object != null ? object.getClass().getSimpleName() : "null";
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("catalog.JsonWrite")
+@Label("JSON Write")
+@Description("Serialization of a controller response body to JSON")
+@Category({"Catalog", "Serialization"})
+public class JsonWriteEvent extends Event {
+
+    @Label("Type")
+    String type;
+}
@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.observability;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNTER = ThreadLocal.withInitial(() -> new long[1]);
+
+    public static long current() {
+        return COUNTER.get()[0];
+    }
+
+    @Override
+    public String inspect(final String sql) {
+        COUNTER.get()[0]++;
+        return sql;
+    }
+}
@@ -0,0 +1,46 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.observability;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.Pointcuts;
+import io.vavr.control.Either;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class UseCaseEventsAspect {
+
+    @Around(Pointcuts.USE_CASE_EXECUTIONS)
+    public Object record(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final var event = new UseCaseExecutionEvent();
+
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        var outcome = "success";
+
+        try {
+            final var result = joinPoint.proceed();
+
+            if (result instanceof Either<?, ?> anEither && anEither.isLeft()) {
+                outcome = "invalid";
+            }
+
+            return result;
+        } catch (final Throwable t) {
+            outcome = "error";
+            throw t;
+        } finally {
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.useCase = joinPoint.getTarget().getClass().getSimpleName();
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+}
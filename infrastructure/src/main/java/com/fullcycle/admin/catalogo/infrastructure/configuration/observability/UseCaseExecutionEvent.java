@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("catalog.UseCaseExecution")
+@Label("Use Case Execution")
+@Description("An execution of an application use case")
+@Category({"Catalog", "Use Cases"})
+public class UseCaseExecutionEvent extends Event {
+
+    @Label("Use Case")
+    String useCase;
+
+    @Label("Outcome")
+    String outcome;
+}
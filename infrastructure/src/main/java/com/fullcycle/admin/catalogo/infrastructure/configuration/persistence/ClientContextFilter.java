@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.execution.ClientContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Objects;
+
+public class ClientContextFilter extends OncePerRequestFilter {
+
+    private final String clientHeader;
+
+    public ClientContextFilter(final String aClientHeader) {
+        this.clientHeader = Objects.requireNonNull(aClientHeader);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final var aClient = request.getHeader(this.clientHeader);
+        ClientContext.set(aClient != null && !aClient.isBlank() ? aClient : request.getRemoteAddr());
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ClientContext.clear();
+        }
+    }
+}
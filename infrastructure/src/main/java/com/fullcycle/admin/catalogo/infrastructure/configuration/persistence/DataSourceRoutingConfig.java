@@ -0,0 +1,77 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "database.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    public static final String PRIMARY_DATA_SOURCE = "primaryDataSource";
+    public static final String REPLICA_DATA_SOURCE = "replicaDataSource";
+
+    @Bean(name = PRIMARY_DATA_SOURCE)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean(name = REPLICA_DATA_SOURCE)
+    @ConfigurationProperties("database.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            final DataSourceProperties properties,
+            @Value("${database.replica.url}") final String url,
+            @Value("${database.replica.username:${spring.datasource.username}}") final String username,
+            @Value("${database.replica.password:${spring.datasource.password}}") final String password
+    ) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+
+    @Bean
+    public ReplicaStickiness replicaStickiness(
+            @Value("${database.replica.read-your-writes:2s}") final Duration aWindow
+    ) {
+        return new ReplicaStickiness(aWindow);
+    }
+
+    @Bean
+    public ClientContextFilter clientContextFilter(
+            @Value("${database.replica.client-header:X-Client-Id}") final String aClientHeader
+    ) {
+        return new ClientContextFilter(aClientHeader);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier(PRIMARY_DATA_SOURCE) final DataSource aPrimary,
+            @Qualifier(REPLICA_DATA_SOURCE) final DataSource aReplica,
+            final ReplicaStickiness aStickiness
+    ) {
+        final var aDataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(aPrimary, aReplica, aStickiness)
+        );
+        aDataSource.setDefaultAutoCommit(false);
+        return aDataSource;
+    }
+}
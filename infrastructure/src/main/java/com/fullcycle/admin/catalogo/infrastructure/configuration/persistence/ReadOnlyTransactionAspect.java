@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.Pointcuts;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Objects;
+
+/*
+ * Runs the retrieve use cases in a read-only transaction: the pooled connection is flagged read-only,
+ * which MySQL Connector/J turns into a READ ONLY transaction, and the session neither flushes nor keeps
+ * dirty-checking snapshots of what it loads. These are the only transactions that may go to the replica.
+ */
+@Aspect
+@Component
+public class ReadOnlyTransactionAspect {
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final EntityManager entityManager;
+
+    public ReadOnlyTransactionAspect(
+            final PlatformTransactionManager transactionManager,
+            final EntityManager entityManager
+    ) {
+        this.readOnlyTransaction = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.readOnlyTransaction.setReadOnly(true);
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    @Around(Pointcuts.QUERY_USE_CASE_EXECUTIONS)
+    public Object readOnly(final ProceedingJoinPoint joinPoint) throws Throwable {
+        try {
+            return ReadWriteRoutingDataSource.readingFromReplica(() -> this.readOnlyTransaction.execute(status -> {
+                final var session = this.entityManager.unwrap(Session.class);
+                session.setHibernateFlushMode(FlushMode.MANUAL);
+                session.setDefaultReadOnly(true);
+
+                try {
+                    return joinPoint.proceed();
+                } catch (final RuntimeException | Error ex) {
+                    throw ex;
+                } catch (final Throwable t) {
+                    throw new UndeclaredThrowableException(t);
+                }
+            }));
+        } catch (final UndeclaredThrowableException ex) {
+            throw ex.getUndeclaredThrowable();
+        }
+    }
+}
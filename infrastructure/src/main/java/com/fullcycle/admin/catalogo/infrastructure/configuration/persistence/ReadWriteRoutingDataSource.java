@@ -0,0 +1,77 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.execution.ClientContext;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/*
+ * Sends the transactions opened through readingFromReplica to the replica, unless the calling client wrote within the
+ * stickiness window. Everything else goes to the primary, including the read-only transactions Spring Data opens
+ * for findById and friends inside a command, which must read what the command is about to overwrite. The decision is
+ * taken on the first statement, so this data source must sit behind a LazyConnectionDataSourceProxy.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> REPLICA_READS = new ThreadLocal<>();
+
+    private final ReplicaStickiness stickiness;
+
+    public ReadWriteRoutingDataSource(
+            final DataSource aPrimary,
+            final DataSource aReplica,
+            final ReplicaStickiness aStickiness
+    ) {
+        this.stickiness = Objects.requireNonNull(aStickiness);
+        setTargetDataSources(Map.of(Route.PRIMARY, aPrimary, Route.REPLICA, aReplica));
+        setDefaultTargetDataSource(aPrimary);
+        afterPropertiesSet();
+    }
+
+    public static <T> T readingFromReplica(final Supplier<T> aCall) {
+        final var previous = REPLICA_READS.get();
+        REPLICA_READS.set(Boolean.TRUE);
+        try {
+            return aCall.get();
+        } finally {
+            if (previous == null) {
+                REPLICA_READS.remove();
+            }
+        }
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        final var aClient = ClientContext.current();
+
+        if (REPLICA_READS.get() == null) {
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                rememberWriteOnCommit(aClient);
+            }
+            return Route.PRIMARY;
+        }
+
+        return this.stickiness.isPinnedToPrimary(aClient) ? Route.PRIMARY : Route.REPLICA;
+    }
+
+    private void rememberWriteOnCommit(final String aClient) {
+        if (aClient != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stickiness.markWrite(aClient);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.persistence;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+public class ReplicaStickiness {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final LongSupplier nanoTime;
+    private final ConcurrentHashMap<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReplicaStickiness(final Duration aWindow) {
+        this(aWindow, System::nanoTime);
+    }
+
+    ReplicaStickiness(final Duration aWindow, final LongSupplier aNanoTime) {
+        this.windowNanos = Objects.requireNonNull(aWindow).toNanos();
+        this.nanoTime = Objects.requireNonNull(aNanoTime);
+    }
+
+    public void markWrite(final String aClient) {
+        if (aClient == null || this.windowNanos <= 0) {
+            return;
+        }
+
+        final var now = this.nanoTime.getAsLong();
+        this.lastWrites.put(aClient, now);
+
+        if (this.lastWrites.size() > PURGE_THRESHOLD) {
+            this.lastWrites.values().removeIf(aWrite -> now - aWrite >= this.windowNanos);
+        }
+    }
+
+    public boolean isPinnedToPrimary(final String aClient) {
+        if (aClient == null) {
+            return false;
+        }
+
+        final var lastWrite = this.lastWrites.get(aClient);
+        if (lastWrite == null) {
+            return false;
+        }
+
+        if (this.nanoTime.getAsLong() - lastWrite < this.windowNanos) {
+            return true;
+        }
+
+        this.lastWrites.remove(aClient, lastWrite);
+        return false;
+    }
+}
@@ -0,0 +1,89 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.UUID;
+
+/*
+ * Opt-in: the regions live in each instance's heap and are only invalidated by that instance's own writes, so
+ * another instance may serve an entry until its TTL runs out. Safe as is on a single node only.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cache.second-level.enabled", havingValue = "true")
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            final SecondLevelCacheProperties properties,
+            final ObjectProvider<MeterRegistry> registry
+    ) {
+        final var aClassLoader = getClass().getClassLoader();
+        final var aProvider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                EhcacheCachingProvider.class.getName(),
+                aClassLoader
+        );
+
+        // A manager per application context, test contexts share the JVM wide provider
+        final var aManager = aProvider.getCacheManager(
+                URI.create("urn:catalog:second-level:" + UUID.randomUUID()),
+                new DefaultConfiguration(aClassLoader)
+        );
+
+        properties.regions().forEach((aName, aRegion) -> {
+            final var aCache = aManager.createCache(aName, Eh107Configuration.fromEhcacheCacheConfiguration(
+                    CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                                    Object.class,
+                                    Object.class,
+                                    ResourcePoolsBuilder.heap(aRegion.maxEntries())
+                            )
+                            .withExpiry(aRegion.expires()
+                                    ? ExpiryPolicyBuilder.timeToLiveExpiration(aRegion.ttl())
+                                    : ExpiryPolicyBuilder.noExpiration())
+            ));
+
+            if (properties.statistics()) {
+                aManager.enableStatistics(aName, true);
+                registry.ifAvailable(aRegistry -> JCacheMetrics.monitor(aRegistry, aCache, Tags.empty()));
+            }
+        });
+
+        return aManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            final CacheManager secondLevelCacheManager,
+            final SecondLevelCacheProperties properties
+    ) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            if (properties.statistics()) {
+                hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            }
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConstructorBinding
+@ConfigurationProperties("cache.second-level")
+public record SecondLevelCacheProperties(boolean enabled, boolean statistics, Map<String, Region> regions) {
+
+    public SecondLevelCacheProperties {
+        regions = regions == null ? Map.of() : Map.copyOf(regions);
+    }
+
+    public record Region(long maxEntries, Duration ttl) {
+
+        public boolean expires() {
+            return ttl != null && !ttl.isZero();
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DefaultScheduleCategoryDeletionUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.ScheduleCategoryDeletionUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
@@ -47,4 +49,9 @@ public class CategoryUseCaseConfig {
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
     }
+
+    @Bean
+    public ScheduleCategoryDeletionUseCase scheduleCategoryDeletionUseCase() {
+        return new DefaultScheduleCategoryDeletionUseCase(categoryGateway);
+    }
 }
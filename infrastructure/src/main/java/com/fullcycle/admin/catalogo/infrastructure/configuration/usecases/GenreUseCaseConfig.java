@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.create.DefaultCreateGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.delete.DefaultDeleteGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.category.DefaultListGenresByCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.category.ListGenresByCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.DefaultListGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.update.DefaultUpdateGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.execution.UseCaseExecutorConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+public class GenreUseCaseConfig {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final Executor fanOutExecutor;
+
+    public GenreUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            @Qualifier(UseCaseExecutorConfig.FAN_OUT_EXECUTOR) final Executor fanOutExecutor
+    ) {
+        this.categoryGateway = categoryGateway;
+        this.genreGateway = genreGateway;
+        this.fanOutExecutor = fanOutExecutor;
+    }
+
+    @Bean
+    public CreateGenreUseCase createGenreUseCase() {
+        return new DefaultCreateGenreUseCase(categoryGateway, genreGateway, fanOutExecutor);
+    }
+
+    @Bean
+    public UpdateGenreUseCase updateGenreUseCase() {
+        return new DefaultUpdateGenreUseCase(categoryGateway, genreGateway, fanOutExecutor);
+    }
+
+    @Bean
+    public GetGenreByIdUseCase getGenreByIdUseCase() {
+        return new DefaultGetGenreByIdUseCase(genreGateway);
+    }
+
+    @Bean
+    public ListGenreUseCase listGenreUseCase() {
+        return new DefaultListGenreUseCase(genreGateway);
+    }
+
+    @Bean
+    public ListGenresByCategoryUseCase listGenresByCategoryUseCase() {
+        return new DefaultListGenresByCategoryUseCase(genreGateway);
+    }
+
+    @Bean
+    public DeleteGenreUseCase deleteGenreUseCase() {
+        return new DefaultDeleteGenreUseCase(genreGateway);
+    }
+}
@@ -1,20 +1,42 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre;
 
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreRowMapper;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetCursor;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SortRegistry;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Component
 public class GenreMySQLGateway implements GenreGateway {
 
+    private static final SortRegistry SORTS = SortRegistry.of("name", "name", "createdAt", "updatedAt");
+    private static final String BY_GENRE_ID = "genreId";
+
     private final GenreRepository genreRepository;
 
     public GenreMySQLGateway(final GenreRepository genreRepository) {
@@ -23,35 +45,207 @@ public class GenreMySQLGateway implements GenreGateway {
 
     @Override
     public Genre create(final Genre aGenre) {
-        return save(aGenre);
+        return this.genreRepository.save(GenreJpaEntity.newEntity(aGenre))
+                .toAggregate();
     }
 
     @Override
     public void deleteById(final GenreID anId) {
-        final var aGenreId = anId.getValue();
+        if (!anId.isCompact()) {
+            return;
+        }
+        this.genreRepository.deleteRowById(anId.getValue());
+    }
+
+    @Override
+    public int deleteAllById(final Iterable<GenreID> ids) {
+        final var idValues = UuidBinaryType.storableValues(ids);
 
-        if (genreRepository.existsById(aGenreId))
-            genreRepository.deleteById(aGenreId);
+        return idValues.isEmpty() ? 0 : this.genreRepository.deleteRowsByIdIn(idValues);
     }
 
     @Override
     public Optional<Genre> findById(GenreID anId) {
+        if (!anId.isCompact()) {
+            return Optional.empty();
+        }
         return this.genreRepository.findById(anId.getValue())
                 .map(GenreJpaEntity::toAggregate);
     }
 
     @Override
+    @Transactional
     public Genre update(final Genre aGenre) {
-        return save(aGenre);
+        return this.genreRepository.findById(aGenre.getId().getValue())
+                .map(anEntity -> anEntity.update(aGenre))
+                .orElseThrow(() -> NotFoundException.with(Genre.class, aGenre.getId()))
+                .toAggregate();
     }
 
     @Override
-    public Pagination<Genre> findAll(SearchQuery aQuery) {
-        return null;
+    @Transactional(readOnly = true)
+    public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        final var aCursor = cursorOf(aQuery);
+        final var aSlice = this.genreRepository.findAll(where(aQuery), after(aCursor), pageOf(aQuery));
+
+        return paginationOf(aCursor, aSlice, GenreJpaEntity::toAggregate, (last, total) -> nextOf(
+                aQuery,
+                sortValueOf(aQuery, last.getName(), last.getCreatedAt(), last.getUpdatedAt()),
+                last.getId(),
+                total
+        ));
     }
 
-    private Genre save(Genre aGenre) {
-        return this.genreRepository.save(GenreJpaEntity.from(aGenre))
-                .toAggregate();
+    @Override
+    @Transactional(readOnly = true)
+    public <T> Pagination<T> findAll(final SearchQuery aQuery, final GenreRowMapper<T> aMapper) {
+        final var aCursor = cursorOf(aQuery);
+        final var aSlice = this.genreRepository.findAllRows(where(aQuery), after(aCursor), pageOf(aQuery));
+
+        return paginationOf(aCursor, aSlice, aMapper::map, (last, total) -> nextOf(
+                aQuery,
+                sortValueOf(aQuery, last.name(), last.createdAt(), last.updatedAt()),
+                last.id(),
+                total
+        ));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<GenreID> findByCategory(final CategoryID aCategoryId, final SearchQuery aQuery) {
+        return findByCategories(List.of(aCategoryId), aQuery);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<GenreID> findByCategories(final Iterable<CategoryID> categoryIds, final SearchQuery aQuery) {
+        final var idValues = UuidBinaryType.storableValues(categoryIds);
+
+        if (idValues.isEmpty()) {
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, List.of());
+        }
+        return findByCategoryIds(idValues, aQuery);
+    }
+
+    // ordered by genre id alone, so the cursor's sort value is that id as well
+    private Pagination<GenreID> findByCategoryIds(final Collection<String> categoryIds, final SearchQuery aQuery) {
+        final var aCursor = aQuery.hasAfter()
+                ? KeysetCursor.decode(aQuery.after()).requireOrdering(BY_GENRE_ID, Sort.Direction.ASC.name())
+                : null;
+        final var aSlice = this.genreRepository.findGenreIdsByCategoryIds(
+                categoryIds,
+                aCursor != null ? aCursor.id() : null,
+                PageRequest.of(aQuery.hasAfter() ? 0 : aQuery.page(), aQuery.perPage())
+        );
+
+        return paginationOf(aCursor, aSlice, GenreID::from, (last, total) -> KeysetCursor.after(
+                BY_GENRE_ID,
+                Sort.Direction.ASC.name(),
+                last,
+                last,
+                total
+        ));
+    }
+
+    // with a cursor the page number is meaningless, the next page starts right after the cursor row
+    private static PageRequest pageOf(final SearchQuery aQuery) {
+        return PageRequest.of(
+                aQuery.hasAfter() ? 0 : aQuery.page(),
+                aQuery.perPage(),
+                SORTS.sortOf(aQuery.sort(), aQuery.direction())
+        );
+    }
+
+    // the first page is counted, later ones carry that total in their cursor instead of counting again
+    private static <R, T> Pagination<T> paginationOf(
+            final KeysetCursor aCursor,
+            final Slice<R> aSlice,
+            final Function<R, T> aMapper,
+            final BiFunction<R, Long, KeysetCursor> aNext
+    ) {
+        final var items = aSlice.getContent();
+        final var total = aSlice instanceof Page<R> aPage ? aPage.getTotalElements() : aCursor.total();
+        final var next = aSlice.hasNext() ? aNext.apply(items.get(items.size() - 1), total).encode() : null;
+
+        return new Pagination<>(
+                aSlice.getNumber(),
+                aSlice.getSize(),
+                total,
+                CollectionUtils.mapTo(items, aMapper),
+                next
+        );
+    }
+
+    private static KeysetCursor nextOf(
+            final SearchQuery aQuery,
+            final Object aSortValue,
+            final String anId,
+            final long aTotal
+    ) {
+        return KeysetCursor.after(
+                SORTS.keyOf(aQuery.sort()),
+                SORTS.directionOf(aQuery.direction()).name(),
+                aSortValue,
+                anId,
+                aTotal
+        );
+    }
+
+    private static KeysetCursor cursorOf(final SearchQuery aQuery) {
+        if (!aQuery.hasAfter()) {
+            return null;
+        }
+        return KeysetCursor.decode(aQuery.after())
+                .requireOrdering(SORTS.keyOf(aQuery.sort()), SORTS.directionOf(aQuery.direction()).name());
+    }
+
+    private static Specification<GenreJpaEntity> after(final KeysetCursor aCursor) {
+        if (aCursor == null) {
+            return null;
+        }
+        final Comparable<?> aValue = switch (aCursor.sort()) {
+            case "createdAt", "updatedAt" -> aCursor.valueAs(Instant::parse);
+            default -> aCursor.value();
+        };
+        return SpecificationUtils.after(
+                aCursor.sort(),
+                aValue,
+                aCursor.id(),
+                Sort.Direction.valueOf(aCursor.direction())
+        );
+    }
+
+    private static Object sortValueOf(
+            final SearchQuery aQuery,
+            final String aName,
+            final Instant aCreatedAt,
+            final Instant anUpdatedAt
+    ) {
+        return switch (SORTS.keyOf(aQuery.sort())) {
+            case "createdAt" -> aCreatedAt;
+            case "updatedAt" -> anUpdatedAt;
+            default -> aName;
+        };
+    }
+
+    private static Specification<GenreJpaEntity> where(final SearchQuery aQuery) {
+        final var specifications = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(term -> SpecificationUtils.<GenreJpaEntity>like("name", term))
+                .orElse(null);
+
+        final var isActive = Optional.ofNullable(aQuery.active())
+                .map(active -> SpecificationUtils.<GenreJpaEntity>equal("active", active))
+                .orElse(null);
+
+        // A deleted row is always an inactive one, so an (active, sort, id) index can serve this filter
+        final var isDeleted = Optional.ofNullable(aQuery.deleted())
+                .map(deleted -> SpecificationUtils.<GenreJpaEntity>isNull("deletedAt", !deleted)
+                        .and(SpecificationUtils.equal("active", !deleted)))
+                .orElse(null);
+
+        return Specification.where(specifications)
+                .and(isActive)
+                .and(isDeleted);
     }
 }
@@ -0,0 +1,59 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.imports;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CsvRecordReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+
+/*
+ * The header names the columns, genre_id and category_id are required and others are ignored.
+ */
+public class CsvGenreCategoryLinkReader implements GenreCategoryLinkReader {
+
+    private final CsvRecordReader reader;
+    private final int genreIdIndex;
+    private final int categoryIdIndex;
+
+    public CsvGenreCategoryLinkReader(final Reader aReader) {
+        this.reader = new CsvRecordReader(aReader);
+
+        try {
+            if (!this.reader.next()) {
+                throw DomainException.with(new Error("CSV file is empty, a header with 'genre_id' and 'category_id' columns is required"));
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        this.genreIdIndex = this.reader.indexOf("genre_id");
+        this.categoryIdIndex = this.reader.indexOf("category_id");
+
+        if (this.genreIdIndex < 0 || this.categoryIdIndex < 0) {
+            throw DomainException.with(new Error("CSV header must have 'genre_id' and 'category_id' columns"));
+        }
+    }
+
+    @Override
+    public GenreCategoryLinkRow next() throws IOException {
+        if (!this.reader.next()) {
+            return null;
+        }
+        if (this.reader.error() != null) {
+            return GenreCategoryLinkRow.invalid(this.reader.line(), this.reader.error());
+        }
+
+        return GenreCategoryLinkRow.with(
+                this.reader.line(),
+                this.reader.field(this.genreIdIndex),
+                this.reader.field(this.categoryIdIndex)
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.imports;
+
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public record GenreCategoryLinkError(long line, List<Error> errors) {
+}
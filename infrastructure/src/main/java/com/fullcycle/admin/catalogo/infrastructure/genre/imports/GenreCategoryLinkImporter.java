@@ -0,0 +1,312 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.imports;
+
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.utils.UuidUtils;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreCategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * Links genres to categories in bulk without loading the aggregates. Pairs are read a chunk at a time and each chunk
+ * is one transaction: the ids are checked with one IN lookup per table, the valid pairs are staged in a temporary
+ * table, pairs already linked are dropped from it, and the rest goes in with a single INSERT ... SELECT. The genres
+ * that got new links have updated_at bumped with one UPDATE. Running the same input again links nothing new.
+ * The id lookups lock the rows they find until the chunk commits, so a genre or a category deleted meanwhile, as the
+ * category deletion worker does, waits for the chunk instead of failing its INSERT on the foreign key. Genres are
+ * locked for update right away since the chunk updates them; upgrading a shared lock would deadlock two chunks
+ * touching the same genre. Categories are only read, a shared lock is enough for them.
+ */
+@Component
+public class GenreCategoryLinkImporter {
+
+    private static final String FIND_GENRES = "SELECT id FROM genres WHERE id IN (:ids) FOR UPDATE";
+    private static final String FIND_CATEGORIES = "SELECT id FROM category WHERE id IN (:ids)";
+
+    private static final String CLEAR_STAGING = "DELETE FROM genre_category_staging";
+    private static final String STAGE_LINK = "INSERT INTO genre_category_staging (genre_id, category_id) VALUES (?, ?)";
+    private static final String UNSTAGE_LINKED = """
+            DELETE FROM genre_category_staging
+            WHERE EXISTS (
+                SELECT 1 FROM genres_categories gc
+                WHERE gc.genre_id = genre_category_staging.genre_id
+                AND gc.category_id = genre_category_staging.category_id
+            )
+            """;
+    private static final String TOUCH_GENRES = """
+            UPDATE genres SET updated_at = ?
+            WHERE id IN (SELECT genre_id FROM genre_category_staging)
+            """;
+
+    private static final String GENRE_CATEGORIES_ROLE = GenreJpaEntity.class.getName() + ".categories";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int chunkSize;
+    private volatile Dialect dialect;
+
+    @Autowired
+    public GenreCategoryLinkImporter(
+            final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager transactionManager,
+            final EntityManagerFactory entityManagerFactory,
+            @Value("${genre.category-import.chunk-size:5000}") final int chunkSize
+    ) {
+        this(jdbcTemplate, new TransactionTemplate(transactionManager), entityManagerFactory, chunkSize);
+    }
+
+    public GenreCategoryLinkImporter(
+            final JdbcTemplate jdbcTemplate,
+            final TransactionTemplate transactionTemplate,
+            final EntityManagerFactory entityManagerFactory,
+            final int chunkSize
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+        this.entityManagerFactory = Objects.requireNonNull(entityManagerFactory);
+        this.chunkSize = chunkSize;
+    }
+
+    public GenreCategoryLinkReport importFrom(
+            final GenreCategoryLinkReader aReader,
+            final Consumer<GenreCategoryLinkError> onError
+    ) throws IOException {
+        final var chunk = new ArrayList<Link>(this.chunkSize);
+        var pairs = 0L;
+        var rejected = 0L;
+        var linked = 0L;
+        var genresUpdated = 0L;
+
+        GenreCategoryLinkRow aRow;
+        while ((aRow = aReader.next()) != null) {
+            pairs++;
+
+            final var errors = validate(aRow);
+            if (errors.isEmpty()) {
+                chunk.add(Link.from(aRow));
+            } else {
+                onError.accept(new GenreCategoryLinkError(aRow.line(), errors));
+                rejected++;
+            }
+
+            if (chunk.size() == this.chunkSize) {
+                final var aResult = apply(chunk, onError);
+                rejected += aResult.rejected();
+                linked += aResult.linked();
+                genresUpdated += aResult.genresUpdated();
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            final var aResult = apply(chunk, onError);
+            rejected += aResult.rejected();
+            linked += aResult.linked();
+            genresUpdated += aResult.genresUpdated();
+        }
+
+        return new GenreCategoryLinkReport(pairs, linked, rejected, genresUpdated);
+    }
+
+    private static List<Error> validate(final GenreCategoryLinkRow aRow) {
+        if (!aRow.isReadable()) {
+            return List.of(new Error(aRow.error()));
+        }
+
+        final var errors = new ArrayList<Error>(2);
+        if (aRow.genreId() == null || aRow.genreId().isBlank()) {
+            errors.add(new Error("'genre_id' should not be empty"));
+        }
+        if (aRow.categoryId() == null || aRow.categoryId().isBlank()) {
+            errors.add(new Error("'category_id' should not be empty"));
+        }
+        if (errors.isEmpty() && !UuidUtils.isUuid(aRow.genreId().trim())) {
+            errors.add(new Error("'genre_id' must be a UUID"));
+        }
+        if (errors.isEmpty() && !UuidUtils.isUuid(aRow.categoryId().trim())) {
+            errors.add(new Error("'category_id' must be a UUID"));
+        }
+        return errors;
+    }
+
+    private ChunkResult apply(final List<Link> aChunk, final Consumer<GenreCategoryLinkError> onError) {
+        final var aResult = this.transactionTemplate.execute(status -> {
+            final var aDialect = dialect();
+            final var existingGenres = findExisting(FIND_GENRES, aChunk, Link::genreId);
+            final var existingCategories = findExisting(FIND_CATEGORIES + aDialect.shareRows, aChunk, Link::categoryId);
+
+            final var errors = new ArrayList<GenreCategoryLinkError>();
+            final var valid = new ArrayList<Link>(aChunk.size());
+            for (final var aLink : aChunk) {
+                final var linkErrors = new ArrayList<Error>(2);
+                if (!existingGenres.contains(aLink.genreId())) {
+                    linkErrors.add(new Error("Genre with ID %s was not found".formatted(aLink.genreId())));
+                }
+                if (!existingCategories.contains(aLink.categoryId())) {
+                    linkErrors.add(new Error("Category with ID %s was not found".formatted(aLink.categoryId())));
+                }
+
+                if (linkErrors.isEmpty()) {
+                    valid.add(aLink);
+                } else {
+                    errors.add(new GenreCategoryLinkError(aLink.line(), linkErrors));
+                }
+            }
+
+            if (valid.isEmpty()) {
+                return new ChunkResult(errors, 0, 0);
+            }
+
+            this.jdbcTemplate.execute(aDialect.createStaging);
+            this.jdbcTemplate.update(CLEAR_STAGING);
+            this.jdbcTemplate.batchUpdate(STAGE_LINK, valid, valid.size(), (ps, aLink) -> {
+                ps.setBytes(1, UuidBinaryType.toBytes(aLink.genreId()));
+                ps.setBytes(2, UuidBinaryType.toBytes(aLink.categoryId()));
+            });
+            this.jdbcTemplate.update(UNSTAGE_LINKED);
+
+            final var linked = this.jdbcTemplate.update(aDialect.insertLinks);
+            final var genresUpdated = linked == 0
+                    ? 0
+                    : this.jdbcTemplate.update(TOUCH_GENRES, Timestamp.from(InstantUtils.now()));
+            this.jdbcTemplate.update(CLEAR_STAGING);
+
+            if (linked > 0) {
+                evictGenresAfterCommit();
+            }
+            return new ChunkResult(errors, linked, genresUpdated);
+        });
+
+        aResult.errors().forEach(onError);
+        return aResult;
+    }
+
+    private Set<String> findExisting(
+            final String aQuery,
+            final List<Link> aChunk,
+            final Function<Link, String> anId
+    ) {
+        final var ids = aChunk.stream()
+                .map(anId)
+                .collect(Collectors.toSet())
+                .stream()
+                .map(UuidBinaryType::toBytes)
+                .toList();
+
+        return this.namedJdbcTemplate.queryForList(aQuery, Map.of("ids", ids), byte[].class).stream()
+                .map(UuidBinaryType::fromBytes)
+                .collect(Collectors.toSet());
+    }
+
+    private Dialect dialect() {
+        if (this.dialect == null) {
+            final var aProduct = this.jdbcTemplate.execute(
+                    (ConnectionCallback<String>) aConnection -> aConnection.getMetaData().getDatabaseProductName()
+            );
+            this.dialect = "H2".equalsIgnoreCase(aProduct) ? Dialect.H2 : Dialect.MYSQL;
+        }
+        return this.dialect;
+    }
+
+    // The inserts and the updated_at bump bypass Hibernate, cached genres would keep their old categories
+    private void evictGenresAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                final var aCache = entityManagerFactory.getCache().unwrap(Cache.class);
+                aCache.evictEntityData(GenreJpaEntity.class);
+                aCache.evictEntityData(GenreCategoryJpaEntity.class);
+                aCache.evictCollectionData(GENRE_CATEGORIES_ROLE);
+                aCache.evictQueryRegions();
+            }
+        });
+    }
+
+    /*
+     * Ids are kept in their canonical form, the one read back from BINARY(16), so lookups compare equal.
+     */
+    private record Link(long line, String genreId, String categoryId) {
+        static Link from(final GenreCategoryLinkRow aRow) {
+            return new Link(
+                    aRow.line(),
+                    UuidBinaryType.fromBytes(UuidBinaryType.toBytes(aRow.genreId().trim())),
+                    UuidBinaryType.fromBytes(UuidBinaryType.toBytes(aRow.categoryId().trim()))
+            );
+        }
+    }
+
+    private record ChunkResult(List<GenreCategoryLinkError> errors, int linked, int genresUpdated) {
+        long rejected() {
+            return errors.size();
+        }
+    }
+
+    /*
+     * Tests run on H2, which has neither INSERT IGNORE, MySQL's CREATE TEMPORARY TABLE nor FOR SHARE. The H2 temporary
+     * table is TRANSACTIONAL so creating it does not commit the chunk.
+     */
+    private enum Dialect {
+        MYSQL(
+                """
+                CREATE TEMPORARY TABLE IF NOT EXISTS genre_category_staging (
+                    genre_id BINARY(16) NOT NULL,
+                    category_id BINARY(16) NOT NULL
+                )
+                """,
+                """
+                INSERT IGNORE INTO genres_categories (genre_id, category_id)
+                SELECT DISTINCT genre_id, category_id FROM genre_category_staging
+                """,
+                " FOR SHARE"
+        ),
+        H2(
+                """
+                CREATE LOCAL TEMPORARY TABLE IF NOT EXISTS genre_category_staging (
+                    genre_id BINARY(16) NOT NULL,
+                    category_id BINARY(16) NOT NULL
+                ) TRANSACTIONAL
+                """,
+                """
+                INSERT INTO genres_categories (genre_id, category_id)
+                SELECT DISTINCT genre_id, category_id FROM genre_category_staging
+                """,
+                " FOR UPDATE"
+        );
+
+        private final String createStaging;
+        private final String insertLinks;
+        private final String shareRows;
+
+        Dialect(final String createStaging, final String insertLinks, final String shareRows) {
+            this.createStaging = createStaging;
+            this.insertLinks = insertLinks;
+            this.shareRows = shareRows;
+        }
+    }
+}
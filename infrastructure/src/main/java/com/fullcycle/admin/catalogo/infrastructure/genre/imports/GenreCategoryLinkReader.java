@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.imports;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.ImportFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+public interface GenreCategoryLinkReader extends Closeable {
+
+    static GenreCategoryLinkReader open(final ImportFormat aFormat, final InputStream anInput) {
+        final var aReader = new InputStreamReader(anInput, StandardCharsets.UTF_8);
+        return switch (aFormat) {
+            case CSV -> new CsvGenreCategoryLinkReader(aReader);
+            case NDJSON -> new NdjsonGenreCategoryLinkReader(aReader);
+        };
+    }
+
+    /**
+     * @return the next pair, or null once the input is exhausted
+     */
+    GenreCategoryLinkRow next() throws IOException;
+}
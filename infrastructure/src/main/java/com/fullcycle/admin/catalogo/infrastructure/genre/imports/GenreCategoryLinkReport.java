@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.imports;
+
+/*
+ * linked counts the genres_categories rows actually inserted, pairs already linked are neither linked nor rejected.
+ * genresUpdated counts one update per genre and chunk, a genre spread over several chunks is counted once per chunk.
+ */
+public record GenreCategoryLinkReport(
+        long pairs,
+        long linked,
+        long rejected,
+        long genresUpdated
+) {
+}
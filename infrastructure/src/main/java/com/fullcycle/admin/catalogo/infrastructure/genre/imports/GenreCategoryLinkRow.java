@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.imports;
+
+public record GenreCategoryLinkRow(
+        long line,
+        String genreId,
+        String categoryId,
+        String error
+) {
+
+    public static GenreCategoryLinkRow with(final long aLine, final String aGenreId, final String aCategoryId) {
+        return new GenreCategoryLinkRow(aLine, aGenreId, aCategoryId, null);
+    }
+
+    public static GenreCategoryLinkRow invalid(final long aLine, final String anError) {
+        return new GenreCategoryLinkRow(aLine, null, null, anError);
+    }
+
+    public boolean isReadable() {
+        return error == null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.utils.NdjsonLineReader;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/*
+ * One JSON object per line, {"genre_id": "...", "category_id": "..."}.
+ */
+public class NdjsonGenreCategoryLinkReader implements GenreCategoryLinkReader {
+
+    private static final ObjectReader ROW_READER = Json.mapper().readerFor(NdjsonRow.class);
+
+    private final NdjsonLineReader reader;
+
+    public NdjsonGenreCategoryLinkReader(final Reader aReader) {
+        this.reader = new NdjsonLineReader(aReader);
+    }
+
+    @Override
+    public GenreCategoryLinkRow next() throws IOException {
+        if (!this.reader.next()) {
+            return null;
+        }
+        if (this.reader.error() != null) {
+            return GenreCategoryLinkRow.invalid(this.reader.line(), this.reader.error());
+        }
+
+        try {
+            final NdjsonRow aRow = this.reader.read(ROW_READER);
+            if (aRow == null) {
+                return GenreCategoryLinkRow.invalid(this.reader.line(), "expected a JSON object");
+            }
+            return GenreCategoryLinkRow.with(this.reader.line(), aRow.genreId(), aRow.categoryId());
+        } catch (final JsonProcessingException ex) {
+            return GenreCategoryLinkRow.invalid(this.reader.line(), "malformed JSON: " + ex.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    record NdjsonRow(String genreId, String categoryId) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.genre.GenreRow;
+
+import java.time.Instant;
+import java.util.List;
+
+public record GenreListResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("is_active") Boolean active,
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("categories") List<String> categories,
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("categories_count") Integer categoriesCount,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("deleted_at") Instant deletedAt
+) {
+    public static GenreListResponse withCategoriesCount(final GenreRow aRow) {
+        return new GenreListResponse(
+                aRow.id(),
+                aRow.name(),
+                aRow.active(),
+                null,
+                aRow.categoriesCount(),
+                aRow.createdAt(),
+                aRow.deletedAt()
+        );
+    }
+}
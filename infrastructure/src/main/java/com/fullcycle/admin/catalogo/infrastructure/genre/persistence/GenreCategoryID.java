@@ -1,5 +1,8 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import org.hibernate.annotations.Type;
+
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import java.io.Serializable;
@@ -7,9 +10,11 @@ import java.util.Objects;
 
 @Embeddable
 public class GenreCategoryID implements Serializable {
-    @Column(name = "genre_id", nullable = false)
+    @Type(type = UuidBinaryType.NAME)
+    @Column(name = "genre_id", nullable = false, columnDefinition = "BINARY(16)")
     private String genreId;
-    @Column(name = "category_id", nullable = false)
+    @Type(type = UuidBinaryType.NAME)
+    @Column(name = "category_id", nullable = false, columnDefinition = "BINARY(16)")
     private String categoryId;
 
     public GenreCategoryID() {
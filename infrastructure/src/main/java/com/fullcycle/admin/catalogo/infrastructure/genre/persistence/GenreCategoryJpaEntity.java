@@ -1,14 +1,19 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.Objects;
 
 @Entity
 @Table(name = "genres_categories")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = GenreCategoryJpaEntity.CACHE_REGION)
 public class GenreCategoryJpaEntity {
 
+    public static final String CACHE_REGION = "genre-category";
+
     @EmbeddedId
     private GenreCategoryID id;
 
@@ -3,6 +3,12 @@ package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.time.Instant;
@@ -12,10 +18,15 @@ import java.util.Set;
 
 @Entity
 @Table(name = "genres")
-public class GenreJpaEntity {
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = GenreJpaEntity.CACHE_REGION)
+public class GenreJpaEntity implements Persistable<String> {
+
+    public static final String CACHE_REGION = "genre";
+    public static final String CATEGORIES_CACHE_REGION = "genre.categories";
 
     @Id
-    @Column(name = "id", nullable = false)
+    @Type(type = UuidBinaryType.NAME)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -24,6 +35,8 @@ public class GenreJpaEntity {
     @Column(name = "active", nullable = false)
     private boolean active;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CATEGORIES_CACHE_REGION)
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
 
@@ -36,6 +49,9 @@ public class GenreJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Transient
+    private boolean isNew;
+
     public GenreJpaEntity() {}
 
     private GenreJpaEntity(
@@ -71,6 +87,25 @@ public class GenreJpaEntity {
         return anEntity;
     }
 
+    public static GenreJpaEntity newEntity(final Genre aGenre) {
+        final var anEntity = from(aGenre);
+        anEntity.isNew = true;
+        return anEntity;
+    }
+
+    public GenreJpaEntity update(final Genre aGenre) {
+        this.name = aGenre.getName();
+        this.active = aGenre.isActive();
+        this.updatedAt = aGenre.getUpdatedAt();
+        this.deletedAt = aGenre.getDeletedAt();
+
+        final var diff = aGenre.categoriesDiff(getCategoryIds());
+        diff.removed().forEach(this::removeCategory);
+        diff.added().forEach(this::addCategory);
+
+        return this;
+    }
+
     public Genre toAggregate() {
         return Genre.with(
                 GenreID.from(getId()),
@@ -99,10 +134,22 @@ public class GenreJpaEntity {
                 .toList();
     }
 
+    @Override
     public String getId() {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public void setId(String id) {
         this.id = id;
     }
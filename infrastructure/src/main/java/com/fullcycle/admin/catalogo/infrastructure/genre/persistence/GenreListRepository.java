@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+public interface GenreListRepository {
+    Slice<GenreJpaEntity> findAll(
+            Specification<GenreJpaEntity> whereClause,
+            Specification<GenreJpaEntity> afterClause,
+            Pageable page
+    );
+
+    Slice<GenreListRow> findAllRows(
+            Specification<GenreJpaEntity> whereClause,
+            Specification<GenreJpaEntity> afterClause,
+            Pageable page
+    );
+
+    Slice<String> findGenreIdsByCategoryIds(Collection<String> categoryIds, String afterGenreId, Pageable page);
+}
@@ -0,0 +1,153 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
+
+import org.hibernate.annotations.QueryHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+public class GenreListRepositoryImpl implements GenreListRepository {
+
+    private final EntityManager entityManager;
+
+    public GenreListRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    @Override
+    public Slice<GenreJpaEntity> findAll(
+            final Specification<GenreJpaEntity> whereClause,
+            final Specification<GenreJpaEntity> afterClause,
+            final Pageable page
+    ) {
+        return findPage(GenreJpaEntity.class, (root, cb) -> root, whereClause, afterClause, page);
+    }
+
+    @Override
+    public Slice<GenreListRow> findAllRows(
+            final Specification<GenreJpaEntity> whereClause,
+            final Specification<GenreJpaEntity> afterClause,
+            final Pageable page
+    ) {
+        // size() is rendered as a correlated COUNT over genres_categories, no category row is fetched
+        return findPage(GenreListRow.class, (root, cb) -> cb.construct(
+                GenreListRow.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("active"),
+                cb.size(root.get("categories")),
+                root.get("createdAt"),
+                root.get("updatedAt"),
+                root.get("deletedAt")
+        ), whereClause, afterClause, page);
+    }
+
+    @Override
+    public Slice<String> findGenreIdsByCategoryIds(
+            final Collection<String> categoryIds,
+            final String afterGenreId,
+            final Pageable page
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(String.class);
+        final var root = query.from(GenreCategoryJpaEntity.class);
+        final Path<String> genreId = root.get("id").get("genreId");
+        final Path<String> categoryId = root.get("id").get("categoryId");
+
+        // (category_id, genre_id) serves both the filter and the order, so a page is an index range read
+        final var predicate = afterGenreId != null
+                ? cb.and(categoryId.in(categoryIds), cb.greaterThan(genreId, afterGenreId))
+                : categoryId.in(categoryIds);
+
+        query.select(genreId)
+                .distinct(categoryIds.size() > 1)
+                .where(predicate)
+                .orderBy(cb.asc(genreId));
+
+        final var items = this.entityManager.createQuery(query)
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(afterGenreId == null ? page.getPageSize() : page.getPageSize() + 1)
+                .getResultList();
+
+        return afterGenreId == null
+                ? PageableExecutionUtils.getPage(items, page, () -> countGenres(categoryIds))
+                : sliceOf(items, page);
+    }
+
+    private <T> Slice<T> findPage(
+            final Class<T> aType,
+            final BiFunction<Root<GenreJpaEntity>, CriteriaBuilder, Selection<? extends T>> aSelection,
+            final Specification<GenreJpaEntity> whereClause,
+            final Specification<GenreJpaEntity> afterClause,
+            final Pageable page
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(aType);
+        final var root = query.from(GenreJpaEntity.class);
+
+        query.select(aSelection.apply(root, cb));
+
+        final var specification = Specification.where(whereClause).and(afterClause);
+        final var predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(page.getSort(), root, cb));
+
+        // a keyset page reads one row more to tell whether there is a next one, its total comes with the cursor
+        final var items = this.entityManager.createQuery(query)
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(afterClause == null ? page.getPageSize() : page.getPageSize() + 1)
+                .setHint(QueryHints.READ_ONLY, true)
+                .getResultList();
+
+        if (afterClause != null) {
+            return sliceOf(items, page);
+        }
+        return PageableExecutionUtils.getPage(items, page, () -> count(whereClause));
+    }
+
+    private static <T> Slice<T> sliceOf(final List<T> items, final Pageable page) {
+        final var hasNext = items.size() > page.getPageSize();
+        return new SliceImpl<>(hasNext ? items.subList(0, page.getPageSize()) : items, page, hasNext);
+    }
+
+    private long count(final Specification<GenreJpaEntity> whereClause) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(Long.class);
+        final var root = query.from(GenreJpaEntity.class);
+
+        query.select(cb.count(root));
+
+        final var predicate = whereClause != null ? whereClause.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return this.entityManager.createQuery(query).getSingleResult();
+    }
+
+    private long countGenres(final Collection<String> categoryIds) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(Long.class);
+        final var root = query.from(GenreCategoryJpaEntity.class);
+        final Path<String> genreId = root.get("id").get("genreId");
+
+        query.select(categoryIds.size() > 1 ? cb.countDistinct(genreId) : cb.count(genreId))
+                .where(root.get("id").get("categoryId").in(categoryIds));
+
+        return this.entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
+
+import com.fullcycle.admin.catalogo.domain.genre.GenreRow;
+
+import java.time.Instant;
+
+public record GenreListRow(
+        String id,
+        String name,
+        boolean active,
+        int categoriesCount,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) implements GenreRow {
+}
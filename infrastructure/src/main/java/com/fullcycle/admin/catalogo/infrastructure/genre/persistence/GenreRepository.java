@@ -1,6 +1,40 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
+import java.util.Collection;
+import java.util.List;
+
+public interface GenreRepository extends JpaRepository<GenreJpaEntity, String>, GenreListRepository {
+
+    // genres_categories rows are removed by ON DELETE CASCADE
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM GenreJpaEntity g WHERE g.id = :id")
+    int deleteRowById(@Param("id") String anId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM GenreJpaEntity g WHERE g.id IN :ids")
+    int deleteRowsByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("""
+            SELECT gc.id.genreId FROM GenreCategoryJpaEntity gc
+            WHERE gc.id.categoryId = :categoryId
+            ORDER BY gc.id.genreId
+            """)
+    List<String> findGenreIdsByCategoryId(@Param("categoryId") String aCategoryId, Pageable page);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            DELETE FROM GenreCategoryJpaEntity gc
+            WHERE gc.id.categoryId = :categoryId AND gc.id.genreId IN :genreIds
+            """)
+    int deleteCategoryLinks(@Param("categoryId") String aCategoryId, @Param("genreIds") Collection<String> genreIds);
 }
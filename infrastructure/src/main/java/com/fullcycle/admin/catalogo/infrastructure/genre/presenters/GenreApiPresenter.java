@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.presenters;
+
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
+
+public interface GenreApiPresenter {
+
+    static GenreListResponse present(final GenreListOutput output) {
+        return new GenreListResponse(
+                output.id().getValue(),
+                output.name(),
+                output.isActive(),
+                output.categories(),
+                null,
+                output.createdAt(),
+                output.deletedAt()
+        );
+    }
+}
@@ -0,0 +1,158 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/*
+ * RFC 4180 reader: comma separated, double quoted fields may hold commas, line breaks and "" escaped quotes. Blank
+ * lines are skipped. A record longer than MAX_RECORD_LENGTH is skipped up to its end and flagged through error(), so
+ * memory stays bounded whatever the input.
+ */
+public class CsvRecordReader implements Closeable {
+
+    public static final int MAX_RECORD_LENGTH = 1 << 16;
+
+    private static final int EOF = -1;
+
+    private final BufferedReader reader;
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private long line = 1;
+    private long recordLine;
+    private String error;
+
+    public CsvRecordReader(final Reader aReader) {
+        this.reader = aReader instanceof BufferedReader buffered ? buffered : new BufferedReader(aReader);
+    }
+
+    /**
+     * @return false once the input is exhausted
+     */
+    public boolean next() throws IOException {
+        while (readRecord()) {
+            if (this.error != null || this.fields.size() > 1 || !this.fields.get(0).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the line of the input the current record starts on
+     */
+    public long line() {
+        return this.recordLine;
+    }
+
+    /**
+     * @return why the current record could not be read, or null
+     */
+    public String error() {
+        return this.error;
+    }
+
+    public String field(final int anIndex) {
+        return anIndex >= 0 && anIndex < this.fields.size() ? this.fields.get(anIndex) : null;
+    }
+
+    /**
+     * @return the position of the column in the current record, read as a header, or -1
+     */
+    public int indexOf(final String aColumn) {
+        for (int i = 0; i < this.fields.size(); i++) {
+            if (this.fields.get(i).trim().toLowerCase(Locale.ROOT).equals(aColumn)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    private boolean readRecord() throws IOException {
+        this.fields.clear();
+        this.field.setLength(0);
+        this.recordLine = this.line;
+        this.error = null;
+
+        var length = 0;
+        var quoted = false;
+        var c = this.reader.read();
+        if (c == EOF) {
+            return false;
+        }
+
+        while (true) {
+            if (quoted) {
+                if (c == EOF) {
+                    this.error = "unterminated quoted field";
+                    break;
+                }
+                if (c == '"') {
+                    this.reader.mark(1);
+                    final var next = this.reader.read();
+                    if (next == '"') {
+                        length = append('"', length);
+                    } else {
+                        quoted = false;
+                        this.reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        this.line++;
+                    }
+                    length = append((char) c, length);
+                }
+            } else if (c == '"' && this.field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                if (length++ < MAX_RECORD_LENGTH) {
+                    this.fields.add(this.field.toString());
+                } else {
+                    tooLong();
+                }
+                this.field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == EOF) {
+                if (c == '\r') {
+                    this.reader.mark(1);
+                    if (this.reader.read() != '\n') {
+                        this.reader.reset();
+                    }
+                }
+                if (c != EOF) {
+                    this.line++;
+                }
+                break;
+            } else {
+                length = append((char) c, length);
+            }
+            c = this.reader.read();
+        }
+
+        this.fields.add(this.field.toString());
+        return true;
+    }
+
+    private int append(final char c, final int aLength) {
+        if (aLength >= MAX_RECORD_LENGTH) {
+            tooLong();
+        } else {
+            this.field.append(c);
+        }
+        return aLength + 1;
+    }
+
+    private void tooLong() {
+        if (this.error == null) {
+            this.error = "record longer than %d characters".formatted(MAX_RECORD_LENGTH);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+public enum ImportFormat {
+    CSV(ImportFormat.TEXT_CSV_VALUE, List.of(".csv")),
+    NDJSON(ImportFormat.APPLICATION_NDJSON_VALUE, List.of(".ndjson", ".jsonl"));
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final String mediaType;
+    private final List<String> extensions;
+
+    ImportFormat(final String aMediaType, final List<String> anExtensions) {
+        this.mediaType = aMediaType;
+        this.extensions = anExtensions;
+    }
+
+    public static Optional<ImportFormat> ofMediaType(final String aContentType) {
+        if (aContentType == null) {
+            return Optional.empty();
+        }
+
+        final var aMediaType = aContentType.split(";", 2)[0].trim();
+        return Arrays.stream(values())
+                .filter(it -> it.mediaType.equalsIgnoreCase(aMediaType))
+                .findFirst();
+    }
+
+    public static Optional<ImportFormat> ofFileName(final String aFileName) {
+        if (aFileName == null) {
+            return Optional.empty();
+        }
+
+        final var aName = aFileName.toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(it -> it.extensions.stream().anyMatch(aName::endsWith))
+                .findFirst();
+    }
+}
@@ -0,0 +1,72 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.utils.UuidUtils;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Function;
+
+/*
+ * Opaque position after the last row of a keyset page: the ordering it was read with, that row's sort value and id,
+ * and the total counted on the first page. Carrying the sort value keeps the next page right when the row is
+ * deleted or its value changes in between; carrying the total spares every later page a count.
+ */
+public record KeysetCursor(String sort, String direction, String value, String id, long total) {
+
+    public static KeysetCursor decode(final String aCursor) {
+        final KeysetCursor aKeysetCursor;
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(aCursor), StandardCharsets.UTF_8);
+            aKeysetCursor = Json.readValue(json, KeysetCursor.class);
+        } catch (final RuntimeException ex) {
+            throw invalid();
+        }
+
+        if (aKeysetCursor == null
+                || aKeysetCursor.sort() == null
+                || aKeysetCursor.direction() == null
+                || aKeysetCursor.value() == null
+                || !UuidUtils.isUuid(aKeysetCursor.id())) {
+            throw invalid();
+        }
+        return aKeysetCursor;
+    }
+
+    public static KeysetCursor after(
+            final String aSort,
+            final String aDirection,
+            final Object aValue,
+            final String anId,
+            final long aTotal
+    ) {
+        return new KeysetCursor(aSort, aDirection, String.valueOf(aValue), anId, aTotal);
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(Json.writeValueAsString(this).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public KeysetCursor requireOrdering(final String aSort, final String aDirection) {
+        if (!this.sort.equals(aSort) || !this.direction.equals(aDirection)) {
+            throw DomainException.with(new Error("'after' was issued for another sort order"));
+        }
+        return this;
+    }
+
+    public <T> T valueAs(final Function<String, T> aParser) {
+        try {
+            return aParser.apply(this.value);
+        } catch (final RuntimeException ex) {
+            throw invalid();
+        }
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(new Error("'after' is not a valid cursor"));
+    }
+}
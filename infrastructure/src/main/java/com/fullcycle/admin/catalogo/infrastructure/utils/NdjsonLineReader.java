@@ -0,0 +1,85 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/*
+ * One JSON value per line. Each line gets its own Jackson parser, so a malformed line is reported on its own and the
+ * next one is still read. Blank lines are skipped, lines longer than MAX_LINE_LENGTH are skipped up to their end and
+ * flagged through error(), so memory stays bounded whatever the input.
+ */
+public class NdjsonLineReader implements Closeable {
+
+    public static final int MAX_LINE_LENGTH = 1 << 16;
+
+    private final BufferedReader reader;
+    private final StringBuilder buffer = new StringBuilder();
+    private long line;
+    private String error;
+
+    public NdjsonLineReader(final Reader aReader) {
+        this.reader = aReader instanceof BufferedReader buffered ? buffered : new BufferedReader(aReader);
+    }
+
+    /**
+     * @return false once the input is exhausted
+     */
+    public boolean next() throws IOException {
+        while (readLine()) {
+            if (this.error != null || !this.buffer.toString().isBlank()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long line() {
+        return this.line;
+    }
+
+    /**
+     * @return why the current line could not be read, or null
+     */
+    public String error() {
+        return this.error;
+    }
+
+    /**
+     * @return the current line bound with aReader, null for a JSON null
+     * @throws JsonProcessingException when the line is not a valid value for aReader
+     */
+    public <T> T read(final ObjectReader aReader) throws JsonProcessingException {
+        return aReader.readValue(this.buffer.toString());
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    private boolean readLine() throws IOException {
+        this.buffer.setLength(0);
+        this.error = null;
+
+        var c = this.reader.read();
+        if (c == -1) {
+            return false;
+        }
+
+        this.line++;
+        while (c != -1 && c != '\n') {
+            if (this.buffer.length() < MAX_LINE_LENGTH) {
+                this.buffer.append((char) c);
+            } else {
+                this.error = "line longer than %d characters".formatted(MAX_LINE_LENGTH);
+            }
+            c = this.reader.read();
+        }
+        return true;
+    }
+}
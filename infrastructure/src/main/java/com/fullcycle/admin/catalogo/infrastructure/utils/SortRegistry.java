@@ -0,0 +1,48 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.Objects;
+import java.util.Set;
+
+/*
+ * Maps the sort keys a listing accepts to orderings backed by an index ending with the id, which breaks ties
+ * so that pages are stable. Unknown keys and directions fall back to the default ordering.
+ */
+public final class SortRegistry {
+
+    private static final String TIEBREAKER = "id";
+
+    private final String defaultKey;
+    private final Set<String> keys;
+
+    private SortRegistry(final String aDefaultKey, final Set<String> keys) {
+        this.defaultKey = Objects.requireNonNull(aDefaultKey);
+        this.keys = Set.copyOf(keys);
+
+        if (!this.keys.contains(aDefaultKey)) {
+            throw new IllegalArgumentException("'%s' is not one of the sort keys %s".formatted(aDefaultKey, keys));
+        }
+    }
+
+    public static SortRegistry of(final String aDefaultKey, final String... keys) {
+        return new SortRegistry(aDefaultKey, Set.of(keys));
+    }
+
+    public boolean isAllowed(final String aKey) {
+        return aKey != null && this.keys.contains(aKey);
+    }
+
+    public String keyOf(final String aKey) {
+        return isAllowed(aKey) ? aKey : this.defaultKey;
+    }
+
+    public Sort.Direction directionOf(final String aDirection) {
+        return Sort.Direction.fromOptionalString(aDirection)
+                .orElse(Sort.Direction.ASC);
+    }
+
+    public Sort sortOf(final String aKey, final String aDirection) {
+        return Sort.by(directionOf(aDirection), keyOf(aKey), TIEBREAKER);
+    }
+}
@@ -1,7 +1,10 @@
 package com.fullcycle.admin.catalogo.infrastructure.utils;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.Expression;
+
 public final class SpecificationUtils {
     private SpecificationUtils() {
     }
@@ -11,6 +14,35 @@ public final class SpecificationUtils {
                 cb.like(cb.upper(root.get(prop)), like(term));
     }
 
+    public static <T> Specification<T> equal(final String prop, final Object value) {
+        return (root, query, cb) -> cb.equal(root.get(prop), value);
+    }
+
+    public static <T> Specification<T> isNull(final String prop, final boolean isNull) {
+        return (root, query, cb) -> isNull ? cb.isNull(root.get(prop)) : cb.isNotNull(root.get(prop));
+    }
+
+    /*
+     * Keyset condition for an ordering on (prop, id): rows after the one whose sort value and id are given. Both come
+     * from the cursor rather than from that row, so the condition holds even if the row was deleted or changed since.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> after(
+            final String prop,
+            final Comparable aValue,
+            final String anId,
+            final Sort.Direction direction
+    ) {
+        return (root, query, cb) -> {
+            final Expression<Comparable> value = root.get(prop);
+            final Expression<String> id = root.get("id");
+
+            return direction.isAscending()
+                    ? cb.or(cb.greaterThan(value, aValue), cb.and(cb.equal(value, aValue), cb.greaterThan(id, anId)))
+                    : cb.or(cb.lessThan(value, aValue), cb.and(cb.equal(value, aValue), cb.lessThan(id, anId)));
+        };
+    }
+
     private static String like(String term) {
         return "%" + term.toUpperCase() + "%";
     }
@@ -0,0 +1,123 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.UuidIdentifier;
+import com.fullcycle.admin.catalogo.domain.utils.UuidUtils;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class UuidBinaryType implements UserType {
+
+    public static final String NAME = "com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType";
+
+    private static final int UUID_BYTES = 16;
+
+    /*
+     * Only UUIDs fit BINARY(16). Any other string would be padded or cut by the column and read back as a different
+     * id, so it is rejected here instead; callers holding ids from the outside check UuidUtils.isUuid first.
+     */
+    public static byte[] toBytes(final String anId) {
+        if (!UuidUtils.isUuid(anId)) {
+            throw new IllegalArgumentException("'%s' is not a UUID and cannot be stored as BINARY(16)".formatted(anId));
+        }
+        return UuidUtils.toBytes(UuidUtils.mostSignificantBits(anId), UuidUtils.leastSignificantBits(anId));
+    }
+
+    /*
+     * The values of the ids that can be stored, an id that is not a UUID matches no row and is left out.
+     */
+    public static List<String> storableValues(final Iterable<? extends UuidIdentifier> ids) {
+        final var values = new ArrayList<String>();
+        ids.forEach(anId -> {
+            if (anId.isCompact()) {
+                values.add(anId.getValue());
+            }
+        });
+        return values;
+    }
+
+    public static String fromBytes(final byte[] bytes) {
+        if (bytes.length != UUID_BYTES) {
+            throw new IllegalArgumentException("Expected %d bytes for a UUID, got %d".formatted(UUID_BYTES, bytes.length));
+        }
+        return UuidUtils.fromBytes(bytes);
+    }
+
+    @Override
+    public int[] sqlTypes() {
+        return new int[]{Types.BINARY};
+    }
+
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public boolean equals(final Object x, final Object y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(final Object x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public Object nullSafeGet(
+            final ResultSet rs,
+            final String[] names,
+            final SharedSessionContractImplementor session,
+            final Object owner
+    ) throws SQLException {
+        final var bytes = rs.getBytes(names[0]);
+        return bytes == null ? null : fromBytes(bytes);
+    }
+
+    @Override
+    public void nullSafeSet(
+            final PreparedStatement st,
+            final Object value,
+            final int index,
+            final SharedSessionContractImplementor session
+    ) throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.BINARY);
+        } else {
+            st.setBytes(index, toBytes((String) value));
+        }
+    }
+
+    @Override
+    public Object deepCopy(final Object value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(final Object value) {
+        return (Serializable) value;
+    }
+
+    @Override
+    public Object assemble(final Serializable cached, final Object owner) {
+        return cached;
+    }
+
+    @Override
+    public Object replace(final Object original, final Object target, final Object owner) {
+        return original;
+    }
+}
@@ -0,0 +1,5 @@
+DROP INDEX idx_category_active_created_at ON category;
+DROP INDEX idx_category_active_updated_at ON category;
+
+DROP INDEX idx_genres_active_created_at ON genres;
+DROP INDEX idx_genres_active_updated_at ON genres;
@@ -0,0 +1 @@
+ALTER TABLE category_imports DROP COLUMN running;
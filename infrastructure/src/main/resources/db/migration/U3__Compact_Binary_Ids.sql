@@ -0,0 +1,50 @@
+CREATE TABLE category_text (
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(4000) NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    deleted_at DATETIME(6) NULL
+);
+
+INSERT INTO category_text (id, name, description, active, created_at, updated_at, deleted_at)
+SELECT LOWER(INSERT(INSERT(INSERT(INSERT(HEX(id), 21, 0, '-'), 17, 0, '-'), 13, 0, '-'), 9, 0, '-')),
+       name, description, active, created_at, updated_at, deleted_at
+FROM category;
+
+CREATE TABLE genres_text (
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    deleted_at DATETIME(6) NULL
+);
+
+INSERT INTO genres_text (id, name, active, created_at, updated_at, deleted_at)
+SELECT LOWER(INSERT(INSERT(INSERT(INSERT(HEX(id), 21, 0, '-'), 17, 0, '-'), 13, 0, '-'), 9, 0, '-')),
+       name, active, created_at, updated_at, deleted_at
+FROM genres;
+
+CREATE TABLE genres_categories_text (
+    genre_id VARCHAR(36) NOT NULL,
+    category_id VARCHAR(36) NOT NULL
+);
+
+INSERT INTO genres_categories_text (genre_id, category_id)
+SELECT LOWER(INSERT(INSERT(INSERT(INSERT(HEX(genre_id), 21, 0, '-'), 17, 0, '-'), 13, 0, '-'), 9, 0, '-')),
+       LOWER(INSERT(INSERT(INSERT(INSERT(HEX(category_id), 21, 0, '-'), 17, 0, '-'), 13, 0, '-'), 9, 0, '-'))
+FROM genres_categories;
+
+DROP TABLE genres_categories;
+DROP TABLE genres;
+DROP TABLE category;
+
+ALTER TABLE category_text RENAME TO category;
+ALTER TABLE genres_text RENAME TO genres;
+ALTER TABLE genres_categories_text RENAME TO genres_categories;
+
+ALTER TABLE genres_categories ADD CONSTRAINT idx_genre_category UNIQUE (genre_id, category_id);
+ALTER TABLE genres_categories ADD CONSTRAINT fk_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE;
+ALTER TABLE genres_categories ADD CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES category (id) ON DELETE CASCADE;
@@ -0,0 +1,5 @@
+DROP INDEX idx_category_active_name ON category;
+DROP INDEX idx_category_deleted_at_updated_at ON category;
+
+DROP INDEX idx_genres_active_name ON genres;
+DROP INDEX idx_genres_deleted_at_updated_at ON genres;
@@ -0,0 +1,4 @@
+-- fk_category_id now relies on idx_category_genre, MySQL rebuilds its own index when the key is re-added
+ALTER TABLE genres_categories DROP FOREIGN KEY fk_category_id;
+DROP INDEX idx_category_genre ON genres_categories;
+ALTER TABLE genres_categories ADD CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES category (id) ON DELETE CASCADE;
@@ -0,0 +1,5 @@
+CREATE INDEX idx_category_active_created_at ON category (active, created_at, id);
+CREATE INDEX idx_category_active_updated_at ON category (active, updated_at, id);
+
+CREATE INDEX idx_genres_active_created_at ON genres (active, created_at, id);
+CREATE INDEX idx_genres_active_updated_at ON genres (active, updated_at, id);
@@ -0,0 +1 @@
+ALTER TABLE category_imports ADD COLUMN running BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,47 @@
+CREATE TABLE category_compact (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(4000) NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    deleted_at DATETIME(6) NULL
+);
+
+INSERT INTO category_compact (id, name, description, active, created_at, updated_at, deleted_at)
+SELECT UNHEX(REPLACE(id, '-', '')), name, description, active, created_at, updated_at, deleted_at
+FROM category;
+
+CREATE TABLE genres_compact (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    deleted_at DATETIME(6) NULL
+);
+
+INSERT INTO genres_compact (id, name, active, created_at, updated_at, deleted_at)
+SELECT UNHEX(REPLACE(id, '-', '')), name, active, created_at, updated_at, deleted_at
+FROM genres;
+
+CREATE TABLE genres_categories_compact (
+    genre_id BINARY(16) NOT NULL,
+    category_id BINARY(16) NOT NULL
+);
+
+INSERT INTO genres_categories_compact (genre_id, category_id)
+SELECT UNHEX(REPLACE(genre_id, '-', '')), UNHEX(REPLACE(category_id, '-', ''))
+FROM genres_categories;
+
+DROP TABLE genres_categories;
+DROP TABLE genres;
+DROP TABLE category;
+
+ALTER TABLE category_compact RENAME TO category;
+ALTER TABLE genres_compact RENAME TO genres;
+ALTER TABLE genres_categories_compact RENAME TO genres_categories;
+
+ALTER TABLE genres_categories ADD CONSTRAINT idx_genre_category UNIQUE (genre_id, category_id);
+ALTER TABLE genres_categories ADD CONSTRAINT fk_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE;
+ALTER TABLE genres_categories ADD CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES category (id) ON DELETE CASCADE;
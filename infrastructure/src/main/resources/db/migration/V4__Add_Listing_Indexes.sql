@@ -0,0 +1,5 @@
+CREATE INDEX idx_category_active_name ON category (active, name, id);
+CREATE INDEX idx_category_deleted_at_updated_at ON category (deleted_at, updated_at);
+
+CREATE INDEX idx_genres_active_name ON genres (active, name, id);
+CREATE INDEX idx_genres_deleted_at_updated_at ON genres (deleted_at, updated_at);
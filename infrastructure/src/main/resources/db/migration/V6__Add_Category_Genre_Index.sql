@@ -0,0 +1 @@
+CREATE INDEX idx_category_genre ON genres_categories (category_id, genre_id);
@@ -0,0 +1,6 @@
+CREATE TABLE category_deletions (
+    category_id BINARY(16) NOT NULL PRIMARY KEY,
+    removed_links BIGINT NOT NULL DEFAULT 0,
+    requested_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
@@ -0,0 +1,8 @@
+CREATE TABLE category_imports (
+    id VARCHAR(64) NOT NULL PRIMARY KEY,
+    last_line BIGINT NOT NULL DEFAULT 0,
+    imported BIGINT NOT NULL DEFAULT 0,
+    rejected BIGINT NOT NULL DEFAULT 0,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
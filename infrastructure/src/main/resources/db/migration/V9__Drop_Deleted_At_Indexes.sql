@@ -0,0 +1,3 @@
+DROP INDEX idx_category_deleted_at_updated_at ON category;
+
+DROP INDEX idx_genres_deleted_at_updated_at ON genres;
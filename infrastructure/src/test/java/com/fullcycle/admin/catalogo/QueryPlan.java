@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/*
+ * One row of a MySQL EXPLAIN, that is how one table of the statement is read.
+ */
+public record QueryPlan(String table, String key, String extra) {
+
+    public static List<QueryPlan> explain(final JdbcTemplate jdbcTemplate, final String sql, final Object... params) {
+        return jdbcTemplate.query(
+                "EXPLAIN " + sql,
+                (rs, rowNum) -> new QueryPlan(rs.getString("table"), rs.getString("key"), rs.getString("Extra")),
+                params
+        );
+    }
+
+    public boolean usesFilesort() {
+        return extra != null && extra.contains("Using filesort");
+    }
+
+    public boolean usesTemporary() {
+        return extra != null && extra.contains("Using temporary");
+    }
+}
@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.observability.StatementCounter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Statement inspector for tests that need the SQL Hibernate emits, not just how many statements it runs.
+ * Install it with @TestPropertySource(properties = StatementRecorder.PROPERTY).
+ */
+public class StatementRecorder extends StatementCounter {
+
+    public static final String PROPERTY = "spring.jpa.properties[hibernate.session_factory.statement_inspector]="
+            + "com.fullcycle.admin.catalogo.StatementRecorder";
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    public static List<String> record(final Runnable aCall) {
+        final var statements = new ArrayList<String>();
+        STATEMENTS.set(statements);
+        try {
+            aCall.run();
+        } finally {
+            STATEMENTS.remove();
+        }
+        return List.copyOf(statements);
+    }
+
+    @Override
+    public String inspect(final String sql) {
+        final var statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return super.inspect(sql);
+    }
+}
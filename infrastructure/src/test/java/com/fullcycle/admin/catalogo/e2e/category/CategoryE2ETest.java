@@ -193,7 +193,7 @@ class CategoryE2ETest {
                 .accept(MediaType.APPLICATION_JSON)
                 .contentType(MediaType.APPLICATION_JSON);
 
-        this.mvc.perform(aRequest)
+        this.mvc.perform(asyncDispatch(this.mvc.perform(aRequest).andReturn()))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message", equalTo("Category with ID 123 was not found")));
     }
@@ -219,7 +219,7 @@ class CategoryE2ETest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(Json.writeValueAsString(aRequestBody));
 
-        this.mvc.perform(aRequest)
+        this.mvc.perform(asyncDispatch(this.mvc.perform(aRequest).andReturn()))
                 .andExpect(status().isOk());
 
         final var actualCategory = retrieveACategory(actualId.getValue());
@@ -253,7 +253,7 @@ class CategoryE2ETest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(Json.writeValueAsString(aRequestBody));
 
-        this.mvc.perform(aRequest)
+        this.mvc.perform(asyncDispatch(this.mvc.perform(aRequest).andReturn()))
                 .andExpect(status().isOk());
 
         final var actualCategory = retrieveACategory(actualId.getValue());
@@ -287,7 +287,7 @@ class CategoryE2ETest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(Json.writeValueAsString(aRequestBody));
 
-        this.mvc.perform(aRequest)
+        this.mvc.perform(asyncDispatch(this.mvc.perform(aRequest).andReturn()))
                 .andExpect(status().isOk());
 
         final var actualCategory = retrieveACategory(actualId.getValue());
@@ -314,7 +314,7 @@ class CategoryE2ETest {
         final var request = delete("/categories/" + actualId.getValue())
                 .contentType(MediaType.APPLICATION_JSON);
 
-        this.mvc.perform(request)
+        this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()))
                 .andExpect(status().isNoContent());
 
         Assertions.assertFalse(this.categoryRepository.existsById(actualId.getValue()));
@@ -335,7 +335,7 @@ class CategoryE2ETest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(Json.writeValueAsString(aRequestBody));
 
-        final var actualId = this.mvc.perform(aRequest)
+        final var actualId = this.mvc.perform(asyncDispatch(this.mvc.perform(aRequest).andReturn()))
                 .andExpect(status().isCreated())
                 .andReturn()
                 .getResponse().getHeader("Location")
@@ -359,7 +359,7 @@ class CategoryE2ETest {
                 .accept(MediaType.APPLICATION_JSON)
                 .contentType(MediaType.APPLICATION_JSON);
 
-        final var json = this.mvc.perform(aRequest)
+        final var json = this.mvc.perform(asyncDispatch(this.mvc.perform(aRequest).andReturn()))
                 .andExpect(status().isOk())
                 .andReturn()
                 .getResponse().getContentAsString();
@@ -391,6 +391,6 @@ class CategoryE2ETest {
                 .accept(MediaType.APPLICATION_JSON)
                 .contentType(MediaType.APPLICATION_JSON);
 
-        return this.mvc.perform(aRequest);
+        return this.mvc.perform(asyncDispatch(this.mvc.perform(aRequest).andReturn()));
     }
 }
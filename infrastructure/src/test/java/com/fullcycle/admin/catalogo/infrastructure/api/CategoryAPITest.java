@@ -5,9 +5,9 @@ import com.fullcycle.admin.catalogo.ControllerTest;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.ScheduleCategoryDeletionUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.CategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
-import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
@@ -18,7 +18,9 @@ import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.execution.DatabaseOverloadedException;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -30,6 +32,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.CannotCreateTransactionException;
 
 import java.util.List;
 import java.util.Objects;
@@ -41,6 +44,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -66,6 +70,9 @@ class CategoryAPITest {
     @MockBean
     private DeleteCategoryUseCase deleteCategoryUseCase;
 
+    @MockBean
+    private ScheduleCategoryDeletionUseCase scheduleCategoryDeletionUseCase;
+
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
@@ -87,7 +94,7 @@ class CategoryAPITest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(this.mapper.writeValueAsString(anInput));
 
-        final var response = this.mvc.perform(request)
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()))
                 .andDo(MockMvcResultHandlers.print());
         // then
         response.andExpectAll(
@@ -123,7 +130,7 @@ class CategoryAPITest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(this.mapper.writeValueAsString(anInput));
 
-        final var response = this.mvc.perform(request)
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()))
                 .andDo(MockMvcResultHandlers.print());
 
         // then
@@ -161,7 +168,7 @@ class CategoryAPITest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(this.mapper.writeValueAsString(aInput));
 
-        final var response = this.mvc.perform(request)
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()))
                 .andDo(MockMvcResultHandlers.print());
 
         // then
@@ -200,7 +207,7 @@ class CategoryAPITest {
                 .accept(MediaType.APPLICATION_JSON)
                 .contentType(MediaType.APPLICATION_JSON);
 
-        final var response = this.mvc.perform(request)
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()))
                 .andDo(MockMvcResultHandlers.print());
 
         // then
@@ -231,7 +238,7 @@ class CategoryAPITest {
                 .accept(MediaType.APPLICATION_JSON)
                 .contentType(MediaType.APPLICATION_JSON);
 
-        final var response = this.mvc.perform(request)
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()))
                 .andDo(MockMvcResultHandlers.print());
 
         // then
@@ -241,6 +248,55 @@ class CategoryAPITest {
         );
     }
 
+    @Test
+    void givenAnOverloadedDatabase_whenCallsGetCategory_shouldReturnServiceUnavailable() throws Exception {
+        // given
+        final var expectedId = CategoryID.from("123");
+        final var expectedErrorMessage = "Could not acquire a database slot within 1000 ms";
+
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenThrow(DatabaseOverloadedException.with(1000));
+
+        // when
+        final var request = get("/categories/{id}", expectedId.getValue())
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()))
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpectAll(
+                status().isServiceUnavailable(),
+                jsonPath("$.message", equalTo(expectedErrorMessage))
+        );
+    }
+
+    @Test
+    void givenAPoolTimeout_whenCallsGetCategory_shouldReturnServiceUnavailable() throws Exception {
+        // given
+        final var expectedId = CategoryID.from("123");
+        final var expectedErrorMessage = "Database is overloaded, no connection available";
+
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenThrow(new CannotCreateTransactionException("Connection is not available, request timed out"));
+
+        // when
+        final var request = get("/categories/{id}", expectedId.getValue())
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()))
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpectAll(
+                status().isServiceUnavailable(),
+                header().string("Retry-After", "1"),
+                jsonPath("$.message", equalTo(expectedErrorMessage))
+        );
+    }
+
     @Test
     void givenAValidCommand_whenCallsUpdateCategory_shouldReturnCategoryId() throws Exception {
         // given
@@ -263,7 +319,7 @@ class CategoryAPITest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(this.mapper.writeValueAsString(aCommand));
 
-        final var response = this.mvc.perform(request)
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()))
                 .andDo(MockMvcResultHandlers.print());
         // then
         response.andExpectAll(
@@ -303,7 +359,7 @@ class CategoryAPITest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(this.mapper.writeValueAsString(aCommand));
 
-        final var response = this.mvc.perform(request)
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()))
                 .andDo(MockMvcResultHandlers.print());
         // then
         response.andExpectAll(
@@ -344,7 +400,7 @@ class CategoryAPITest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(this.mapper.writeValueAsString(aCommand));
 
-        final var response = this.mvc.perform(request)
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()))
                 .andDo(MockMvcResultHandlers.print());
         // then
         response.andExpectAll(
@@ -373,7 +429,7 @@ class CategoryAPITest {
                 .accept(MediaType.APPLICATION_JSON)
                 .contentType(MediaType.APPLICATION_JSON);
 
-        final var response = this.mvc.perform(request)
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()))
                 .andDo(MockMvcResultHandlers.print());
 
         // then
@@ -384,6 +440,29 @@ class CategoryAPITest {
         verify(deleteCategoryUseCase, times(1)).execute(expectedId);
     }
 
+    @Test
+    void givenAValidIdAndChunked_whenCallsDeleteCategory_shouldReturnAcceptedAndScheduleTheDeletion() throws Exception {
+        // given
+        final var expectedId = CategoryID.from("123").getValue();
+
+        doNothing().when(scheduleCategoryDeletionUseCase).execute(any());
+
+        // when
+        final var request = delete("/categories/{id}", expectedId)
+                .queryParam("chunked", "true")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()));
+
+        // then
+        response.andExpectAll(
+                status().isAccepted()
+        );
+
+        verify(scheduleCategoryDeletionUseCase, times(1)).execute(expectedId);
+        verify(deleteCategoryUseCase, never()).execute(any());
+    }
+
     @Test
     void givenAValidParams_whenCallsListCategories_shouldReturnCategories() throws Exception {
         // Given
@@ -397,10 +476,17 @@ class CategoryAPITest {
         final var expectedItemsCount = 1;
         final var expectedTotal = 1;
 
-        final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+        final var expectedItems = List.of(new CategoryListResponse(
+                aCategory.getId().getValue(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getDeletedAt()
+        ));
 
         // When
-        when(listCategoriesUseCase.execute(any()))
+        when(listCategoriesUseCase.<CategoryListResponse>execute(any(), any()))
                 .thenReturn(new Pagination<>(expectedPage, expectedPerPage, expectedTotal, expectedItems));
 
         final var request = MockMvcRequestBuilders.get("/categories")
@@ -412,7 +498,7 @@ class CategoryAPITest {
                 .accept(MediaType.APPLICATION_JSON)
                 .contentType(MediaType.APPLICATION_JSON);
 
-        final var response = this.mvc.perform(request)
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()))
                 .andDo(MockMvcResultHandlers.print());
 
         // Then
@@ -436,6 +522,34 @@ class CategoryAPITest {
                 && Objects.equals(expectedDirection, query.direction())
                 && Objects.equals(expectedSort, query.sort())
                 && Objects.equals(expectedTerms, query.terms())
-        ));
+        ), any());
+    }
+
+    @Test
+    void givenActiveAndDeletedFilters_whenCallsListCategories_shouldPassThemToTheQuery() throws Exception {
+        // Given
+        final var expectedActive = false;
+        final var expectedDeleted = true;
+
+        when(listCategoriesUseCase.<CategoryListResponse>execute(any(), any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("active", String.valueOf(expectedActive))
+                .queryParam("deleted", String.valueOf(expectedDeleted))
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()));
+
+        // Then
+        response.andExpectAll(
+                status().isOk(),
+                jsonPath("$.items", hasSize(0))
+        );
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedActive, query.active())
+                && Objects.equals(expectedDeleted, query.deleted())
+        ), any());
     }
 }
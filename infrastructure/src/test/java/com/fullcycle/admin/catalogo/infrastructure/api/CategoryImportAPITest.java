@@ -0,0 +1,157 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.category.imports.CategoryImportError;
+import com.fullcycle.admin.catalogo.infrastructure.category.imports.CategoryImportReport;
+import com.fullcycle.admin.catalogo.infrastructure.category.imports.CategoryImporter;
+import com.fullcycle.admin.catalogo.infrastructure.category.imports.NdjsonCategoryImportReader;
+import com.fullcycle.admin.catalogo.infrastructure.category.imports.CsvCategoryImportReader;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = CategoryImportAPI.class)
+class CategoryImportAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private CategoryImporter categoryImporter;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenACsvUpload_whenCallsImport_shouldStreamTheRejectedRowsAndThenTheReport() throws Exception {
+        // given
+        final var expectedImportId = "import-1";
+
+        when(categoryImporter.claim(expectedImportId)).thenReturn(0L);
+        when(categoryImporter.importFrom(any(CsvCategoryImportReader.class), eq(expectedImportId), eq(0L), any()))
+                .thenAnswer(call -> {
+                    final Consumer<CategoryImportError> onError = call.getArgument(3);
+                    onError.accept(new CategoryImportError(3, List.of(new Error("'name' should not be empty"))));
+                    return new CategoryImportReport(expectedImportId, 2, 1, 1, 0, 3);
+                });
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/categories/import")
+                .queryParam("importId", expectedImportId)
+                .contentType("text/csv")
+                .content("name\nFilmes\n\"\"\n");
+
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()));
+
+        // then
+        response.andExpectAll(
+                status().isOk(),
+                header().string("X-Import-Id", expectedImportId),
+                content().contentTypeCompatibleWith("application/x-ndjson"),
+                content().string("""
+                        {"line":3,"errors":[{"message":"'name' should not be empty"}]}
+                        {"import_id":"import-1","rows":2,"imported":1,"rejected":1,"skipped":0,"last_line":3}
+                        """)
+        );
+    }
+
+    @Test
+    void givenAnNdjsonUploadWithoutImportId_whenCallsImport_shouldGenerateOne() throws Exception {
+        // given
+        when(categoryImporter.importFrom(any(NdjsonCategoryImportReader.class), any(), anyLong(), any()))
+                .thenAnswer(call -> new CategoryImportReport(call.getArgument(1), 1, 1, 0, 0, 1));
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/categories/import")
+                .contentType("application/x-ndjson")
+                .content("{\"name\": \"Filmes\"}\n");
+
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()));
+
+        // then
+        response.andExpectAll(
+                status().isOk(),
+                header().exists("X-Import-Id"),
+                jsonPath("$.imported").value(1)
+        );
+        verify(categoryImporter, times(1)).claim(any());
+        verify(categoryImporter, times(1)).importFrom(any(NdjsonCategoryImportReader.class), any(), anyLong(), any());
+    }
+
+    @Test
+    void givenAnImportIdAlreadyRunning_whenCallsImport_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedImportId = "import-1";
+        final var expectedErrorMessage = "Import import-1 is already running";
+
+        when(categoryImporter.claim(expectedImportId))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/categories/import")
+                .queryParam("importId", expectedImportId)
+                .contentType("text/csv")
+                .content("name\nFilmes\n");
+
+        final var response = this.mvc.perform(request);
+
+        // then
+        response.andExpectAll(
+                status().isUnprocessableEntity(),
+                jsonPath("$.message").value(expectedErrorMessage)
+        );
+        verify(categoryImporter, never()).importFrom(any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void givenAnUpload_whenCallsImport_shouldStreamWithTheImportTimeout() throws Exception {
+        // given
+        final var expectedTimeout = Duration.ofMinutes(30).toMillis();
+
+        when(categoryImporter.importFrom(any(CsvCategoryImportReader.class), any(), anyLong(), any()))
+                .thenAnswer(call -> new CategoryImportReport(call.getArgument(1), 1, 1, 0, 0, 2));
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/categories/import")
+                .contentType("text/csv")
+                .content("name\nFilmes\n");
+
+        final var actualResult = this.mvc.perform(request).andReturn();
+
+        // then
+        assertEquals(expectedTimeout, actualResult.getRequest().getAsyncContext().getTimeout());
+        this.mvc.perform(asyncDispatch(actualResult)).andExpect(status().isOk());
+    }
+
+    @Test
+    void givenACsvWithoutNameColumn_whenCallsImport_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var request = MockMvcRequestBuilders.post("/categories/import")
+                .contentType("text/csv")
+                .content("description\nA categoria\n");
+
+        // when
+        final var response = this.mvc.perform(request);
+
+        // then
+        response.andExpectAll(
+                status().isUnprocessableEntity(),
+                jsonPath("$.message").value("CSV header must have a 'name' column")
+        );
+        verifyNoInteractions(categoryImporter);
+    }
+}
@@ -0,0 +1,226 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.category.ListGenresByCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ControllerTest(controllers = GenreAPI.class)
+class GenreAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private ListGenreUseCase listGenreUseCase;
+
+    @MockBean
+    private ListGenresByCategoryUseCase listGenresByCategoryUseCase;
+
+    @Test
+    void givenAValidParams_whenCallsListGenres_shouldReturnGenresWithTheirCategories() throws Exception {
+        // given
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategories(List.of(CategoryID.from("123")));
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 10;
+        final var expectedTerms = "aç";
+        final var expectedSort = "createdAt";
+        final var expectedDirection = "desc";
+        final var expectedTotal = 1;
+
+        when(listGenreUseCase.execute(any()))
+                .thenReturn(new Pagination<>(expectedPage, expectedPerPage, expectedTotal, List.of(GenreListOutput.from(aGenre))));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/genres")
+                .queryParam("page", String.valueOf(expectedPage))
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("sort", expectedSort)
+                .queryParam("dir", expectedDirection)
+                .queryParam("search", expectedTerms)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()))
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpectAll(
+                status().isOk(),
+                jsonPath("$.current_page", equalTo(expectedPage)),
+                jsonPath("$.per_page", equalTo(expectedPerPage)),
+                jsonPath("$.total", equalTo(expectedTotal)),
+                jsonPath("$.items", hasSize(1)),
+                jsonPath("$.items[0].id", equalTo(aGenre.getId().getValue())),
+                jsonPath("$.items[0].name", equalTo(aGenre.getName())),
+                jsonPath("$.items[0].is_active", equalTo(aGenre.isActive())),
+                jsonPath("$.items[0].categories", equalTo(List.of("123"))),
+                jsonPath("$.items[0].categories_count").doesNotExist(),
+                jsonPath("$.items[0].created_at", equalTo(aGenre.getCreatedAt().toString()))
+        );
+
+        verify(listGenreUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedPage, query.page())
+                && Objects.equals(expectedPerPage, query.perPage())
+                && Objects.equals(expectedDirection, query.direction())
+                && Objects.equals(expectedSort, query.sort())
+                && Objects.equals(expectedTerms, query.terms())
+                && query.after() == null
+        ));
+        verify(listGenreUseCase, never()).execute(any(), any());
+    }
+
+    @Test
+    void givenCategoriesCountAndACursor_whenCallsListGenres_shouldReturnTheCountInsteadOfTheCategories() throws Exception {
+        // given
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedAfter = "c0ffee";
+        final var expectedCategoriesCount = 3;
+
+        when(listGenreUseCase.<GenreListResponse>execute(any(), any()))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(new GenreListResponse(
+                        aGenre.getId().getValue(),
+                        aGenre.getName(),
+                        aGenre.isActive(),
+                        null,
+                        expectedCategoriesCount,
+                        aGenre.getCreatedAt(),
+                        aGenre.getDeletedAt()
+                ))));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/genres")
+                .queryParam("after", expectedAfter)
+                .queryParam("categoriesCount", "true")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()));
+
+        // then
+        response.andExpectAll(
+                status().isOk(),
+                jsonPath("$.items", hasSize(1)),
+                jsonPath("$.items[0].id", equalTo(aGenre.getId().getValue())),
+                jsonPath("$.items[0].categories_count", equalTo(expectedCategoriesCount)),
+                jsonPath("$.items[0].categories").doesNotExist()
+        );
+
+        verify(listGenreUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedAfter, query.after())
+        ), any());
+        verify(listGenreUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenAnUnknownCursor_whenCallsListGenres_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedAfter = "c0ffee";
+        final var expectedMessage = "'after' is not a valid cursor";
+
+        when(listGenreUseCase.execute(any()))
+                .thenThrow(DomainException.with(new Error(expectedMessage)));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/genres")
+                .queryParam("after", expectedAfter)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()));
+
+        // then
+        response.andExpectAll(
+                status().isUnprocessableEntity(),
+                jsonPath("$.errors", hasSize(1)),
+                jsonPath("$.errors[0].message", equalTo(expectedMessage))
+        );
+
+        verify(listGenreUseCase, times(1)).execute(argThat(query -> Objects.equals(expectedAfter, query.after())));
+    }
+
+    @Test
+    void givenManyCategoryIds_whenCallsListGenresByCategory_shouldReturnTheGenreIds() throws Exception {
+        // given
+        final var expectedGenreId = "c0ffee";
+        final var expectedCategoryIds = List.of("123", "456");
+        final var expectedAfter = "b0a710ad";
+
+        when(listGenresByCategoryUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 100, 1, List.of(expectedGenreId)));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/genres/by-category")
+                .queryParam("categoryId", expectedCategoryIds.toArray(String[]::new))
+                .queryParam("after", expectedAfter)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()));
+
+        // then
+        response.andExpectAll(
+                status().isOk(),
+                jsonPath("$.per_page", equalTo(100)),
+                jsonPath("$.total", equalTo(1)),
+                jsonPath("$.items", equalTo(List.of(expectedGenreId)))
+        );
+
+        verify(listGenresByCategoryUseCase, times(1)).execute(argThat(aCommand ->
+                Objects.equals(expectedCategoryIds, aCommand.categoryIds())
+                && Objects.equals(expectedAfter, aCommand.query().after())
+        ));
+    }
+
+    @Test
+    void givenAMalformedCursor_whenCallsListGenresByCategory_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedAfter = "not-a-genre-id";
+        final var expectedMessage = "'after' is not a valid cursor";
+
+        when(listGenresByCategoryUseCase.execute(any()))
+                .thenThrow(DomainException.with(new Error(expectedMessage)));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/genres/by-category")
+                .queryParam("categoryId", "123")
+                .queryParam("after", expectedAfter)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()));
+
+        // then
+        response.andExpectAll(
+                status().isUnprocessableEntity(),
+                jsonPath("$.errors", hasSize(1)),
+                jsonPath("$.errors[0].message", equalTo(expectedMessage))
+        );
+
+        verify(listGenresByCategoryUseCase, times(1)).execute(argThat(aCommand ->
+                Objects.equals(expectedAfter, aCommand.query().after())
+        ));
+    }
+}
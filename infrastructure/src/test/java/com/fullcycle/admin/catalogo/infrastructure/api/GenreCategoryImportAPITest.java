@@ -0,0 +1,104 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.genre.imports.GenreCategoryLinkError;
+import com.fullcycle.admin.catalogo.infrastructure.genre.imports.GenreCategoryLinkImporter;
+import com.fullcycle.admin.catalogo.infrastructure.genre.imports.GenreCategoryLinkReport;
+import com.fullcycle.admin.catalogo.infrastructure.genre.imports.NdjsonGenreCategoryLinkReader;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = GenreCategoryImportAPI.class)
+class GenreCategoryImportAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private GenreCategoryLinkImporter linkImporter;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenAnNdjsonUpload_whenCallsImport_shouldStreamTheRejectedPairsAndThenTheReport() throws Exception {
+        // given
+        when(linkImporter.importFrom(any(NdjsonGenreCategoryLinkReader.class), any()))
+                .thenAnswer(call -> {
+                    final Consumer<GenreCategoryLinkError> onError = call.getArgument(1);
+                    onError.accept(new GenreCategoryLinkError(2, List.of(new Error("'genre_id' should not be empty"))));
+                    return new GenreCategoryLinkReport(2, 1, 1, 1);
+                });
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/genres/categories/import")
+                .contentType("application/x-ndjson")
+                .content("""
+                        {"genre_id": "123", "category_id": "456"}
+                        {"category_id": "456"}
+                        """);
+
+        final var response = this.mvc.perform(asyncDispatch(this.mvc.perform(request).andReturn()));
+
+        // then
+        response.andExpectAll(
+                status().isOk(),
+                content().contentTypeCompatibleWith("application/x-ndjson"),
+                content().string("""
+                        {"line":2,"errors":[{"message":"'genre_id' should not be empty"}]}
+                        {"pairs":2,"linked":1,"rejected":1,"genres_updated":1}
+                        """)
+        );
+        verify(linkImporter, times(1)).importFrom(any(NdjsonGenreCategoryLinkReader.class), any());
+    }
+
+    @Test
+    void givenAnUpload_whenCallsImport_shouldStreamWithTheImportTimeout() throws Exception {
+        // given
+        final var expectedTimeout = Duration.ofMinutes(30).toMillis();
+
+        when(linkImporter.importFrom(any(NdjsonGenreCategoryLinkReader.class), any()))
+                .thenReturn(new GenreCategoryLinkReport(0, 0, 0, 0));
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/genres/categories/import")
+                .contentType("application/x-ndjson")
+                .content("");
+
+        final var actualResult = this.mvc.perform(request).andReturn();
+
+        // then
+        assertEquals(expectedTimeout, actualResult.getRequest().getAsyncContext().getTimeout());
+        this.mvc.perform(asyncDispatch(actualResult)).andExpect(status().isOk());
+    }
+
+    @Test
+    void givenACsvWithoutCategoryIdColumn_whenCallsImport_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var request = MockMvcRequestBuilders.post("/genres/categories/import")
+                .contentType("text/csv")
+                .content("genre_id\n123\n");
+
+        // when
+        final var response = this.mvc.perform(request);
+
+        // then
+        response.andExpectAll(
+                status().isUnprocessableEntity(),
+                jsonPath("$.message").value("CSV header must have 'genre_id' and 'category_id' columns")
+        );
+        verifyNoInteractions(linkImporter);
+    }
+}
@@ -2,13 +2,21 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryRow;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryDeletionRepository;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.observability.StatementCounter;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,6 +30,9 @@ class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CategoryDeletionRepository deletionRepository;
+
     @Test
     void givenAValidCategory_whenCallsCreate_shouldReturnANewCategory() {
         final var expectedName = "Filmes";
@@ -106,6 +117,63 @@ class CategoryMySQLGatewayTest {
         assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    void givenAValidCategory_whenCallsCreate_shouldInsertWithoutSelectingFirst() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        final var statementsBefore = StatementCounter.current();
+        categoryGateway.create(aCategory);
+        categoryRepository.flush();
+
+        assertEquals(1, StatementCounter.current() - statementsBefore);
+        assertEquals(1, categoryRepository.count());
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsUpdate_shouldIssueASingleUpdate() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var statementsBefore = StatementCounter.current();
+        categoryGateway.update(Category.with(aCategory).update("Filmes", "A categoria mais assistida", false));
+        categoryRepository.flush();
+
+        assertEquals(1, StatementCounter.current() - statementsBefore);
+
+        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+        assertEquals("Filmes", actualEntity.getName());
+        assertEquals("A categoria mais assistida", actualEntity.getDescription());
+        assertFalse(actualEntity.isActive());
+        assertNotNull(actualEntity.getDeletedAt());
+    }
+
+    @Test
+    void givenANotPersistedCategory_whenCallsUpdate_shouldThrowNotFoundAndNotInsertIt() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedErrorMessage = "Category with ID %s was not found".formatted(aCategory.getId().getValue());
+
+        final var actualException = assertThrows(NotFoundException.class, () -> categoryGateway.update(aCategory));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    void givenACategoryScheduledForDeletion_whenCallsUpdateWithAStaleAggregate_shouldThrowNotFoundAndKeepTheMark() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+        final var aStaleCategory = Category.with(aCategory);
+
+        categoryGateway.scheduleDeletion(aCategory.deactivate());
+
+        assertThrows(NotFoundException.class, () -> categoryGateway.update(aStaleCategory.update("Filmes", "Atualizada", true)));
+
+        final var persistedCategory = categoryRepository.findById(aCategory.getId().getValue()).get();
+        assertFalse(persistedCategory.isActive());
+        assertNotNull(persistedCategory.getDeletedAt());
+        assertEquals(1, deletionRepository.count());
+    }
+
     @Test
     void givenAPrePersistedCategory_whenTryToDeleteIt_shouldDeleteCategory() {
         final var expectedName = "Filmes";
@@ -131,6 +199,69 @@ class CategoryMySQLGatewayTest {
         assertEquals(0, categoryRepository.count());
     }
 
+    @Test
+    void givenAPrePersistedCategory_whenCallsDeleteById_shouldIssueASingleStatement() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var statementsBefore = StatementCounter.current();
+        categoryGateway.deleteById(aCategory.getId());
+
+        assertEquals(1, StatementCounter.current() - statementsBefore);
+        assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsDeleteAllById_shouldDeleteThemInOneStatementAndReturnTheCount() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var statementsBefore = StatementCounter.current();
+        final var actualDeleted = categoryGateway.deleteAllById(
+                List.of(filmes.getId(), series.getId(), CategoryID.unique())
+        );
+
+        assertEquals(2, actualDeleted);
+        assertEquals(1, StatementCounter.current() - statementsBefore);
+        assertEquals(1, categoryRepository.count());
+        assertTrue(categoryRepository.existsById(documentarios.getId().getValue()));
+        assertEquals(0, categoryGateway.deleteAllById(List.of(filmes.getId(), series.getId())));
+        assertEquals(0, categoryGateway.deleteAllById(List.of()));
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsScheduleDeletion_shouldMarkItDeletedAndRecordTheDeletionOnce() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        categoryGateway.scheduleDeletion(aCategory.deactivate());
+        categoryGateway.scheduleDeletion(aCategory);
+
+        final var persistedCategory = categoryRepository.findById(aCategory.getId().getValue()).get();
+        assertFalse(persistedCategory.isActive());
+        assertEquals(aCategory.getDeletedAt(), persistedCategory.getDeletedAt());
+
+        assertEquals(1, deletionRepository.count());
+        final var aDeletion = deletionRepository.findById(aCategory.getId().getValue()).get();
+        assertEquals(0, aDeletion.getRemovedLinks());
+        assertEquals(aCategory.getUpdatedAt(), aDeletion.getRequestedAt());
+    }
+
+    @Test
+    void givenANotPersistedCategory_whenCallsScheduleDeletion_shouldNotRecordTheDeletion() {
+        categoryGateway.scheduleDeletion(Category.newCategory("Filmes", null, true).deactivate());
+
+        assertEquals(0, categoryRepository.count());
+        assertEquals(0, deletionRepository.count());
+    }
+
     @Test
     void givenInvalidCategoryId_whenTryToDeleteIt_shouldDeleteCategory() {
         assertEquals(0, categoryRepository.count());
@@ -169,6 +300,24 @@ class CategoryMySQLGatewayTest {
         assertNull(actualCategory.getDeletedAt());
     }
 
+    @Test
+    void givenPrePersistedCategoriesAndUnknownIds_whenCallsExistsByIds_shouldReturnOnlyTheStoredIds() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var unknown = CategoryID.unique();
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.newEntity(filmes),
+                CategoryJpaEntity.newEntity(series)
+        ));
+
+        final var actualIds = categoryGateway.existsByIds(List.of(filmes.getId(), unknown, series.getId()));
+
+        assertEquals(2, actualIds.size());
+        assertTrue(actualIds.containsAll(List.of(filmes.getId(), series.getId())));
+        assertTrue(categoryGateway.existsByIds(List.of()).isEmpty());
+    }
+
     @Test
     void givenValidCategoryIdNotStored_whenCallsFindById_shouldReturnEmpty() {
         assertEquals(0, categoryRepository.count());
@@ -206,6 +355,128 @@ class CategoryMySQLGatewayTest {
         assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
     }
 
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllWithActiveAndDeletedFilters_shouldReturnOnlyMatchingCategories() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, false);
+        final var documentarios = Category.newCategory("Documentarios", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var actualActive = categoryGateway.findAll(new SearchQuery(0, 10, "", "name", "asc", true, null));
+        final var actualInactive = categoryGateway.findAll(new SearchQuery(0, 10, "", "name", "asc", false, null));
+        final var actualDeleted = categoryGateway.findAll(
+                new SearchQuery(0, 10, "", "name", "asc", null, true),
+                CategoryRow::name
+        );
+        final var actualActiveNotDeleted = categoryGateway.findAll(
+                new SearchQuery(0, 10, "", "name", "asc", true, false),
+                CategoryRow::name
+        );
+
+        assertEquals(List.of(documentarios.getId(), filmes.getId()), actualActive.map(Category::getId).items());
+        assertEquals(2, actualActive.total());
+        assertEquals(List.of(series.getId()), actualInactive.map(Category::getId).items());
+        assertEquals(1, actualInactive.total());
+        assertEquals(List.of("Series"), actualDeleted.items());
+        assertEquals(List.of("Documentarios", "Filmes"), actualActiveNotDeleted.items());
+        assertEquals(2, actualActiveNotDeleted.total());
+    }
+
+    @Test
+    void givenAnUnknownSortKeyAndDirection_whenCallsFindAll_shouldFallBackToNameAscending() {
+        final var filmes = Category.newCategory("Filmes", "Z", true);
+        final var series = Category.newCategory("Series", "A", true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series)
+        ));
+
+        final var actualResult = categoryGateway.findAll(new SearchQuery(0, 10, "", "description", "sideways"));
+
+        assertEquals(List.of(filmes.getId(), series.getId()), actualResult.map(Category::getId).items());
+    }
+
+    @Test
+    void givenCategoriesWithTheSameName_whenCallsFindAllPageByPage_shouldBreakTiesById() {
+        final var categories = List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Filmes", null, true)
+        );
+        categoryRepository.saveAllAndFlush(categories.stream().map(CategoryJpaEntity::from).toList());
+
+        final var expectedIds = categories.stream()
+                .map(Category::getId)
+                .sorted(Comparator.comparing(anId -> UuidBinaryType.toBytes(anId.getValue()), Arrays::compareUnsigned))
+                .toList();
+
+        final var actualIds = new ArrayList<CategoryID>();
+        for (int page = 0; page < 3; page++) {
+            actualIds.addAll(categoryGateway.findAll(new SearchQuery(page, 1, "", "name", "asc"))
+                    .map(Category::getId)
+                    .items());
+        }
+
+        assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllWithRowMapper_shouldMapEntitiesStraightToRows() {
+        final var expectedPerPage = 2;
+        final var expectedTotal = 3;
+
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Series", null, false);
+        final var documentarios = Category.newCategory("Documentarios", null, true);
+
+        List.of(filmes, series, documentarios).stream()
+                .map(CategoryJpaEntity::from)
+                .forEach(categoryRepository::save);
+
+        final var query = new SearchQuery(0, 2, "", "name", "asc");
+        final var actualResult = categoryGateway.findAll(
+                query,
+                aRow -> List.of(aRow.id(), aRow.name(), aRow.active())
+        );
+
+        assertEquals(expectedPerPage, actualResult.perPage());
+        assertEquals(expectedTotal, actualResult.total());
+        assertEquals(List.of(documentarios.getId().getValue(), "Documentarios", true), actualResult.items().get(0));
+        assertEquals(List.of(filmes.getId().getValue(), "Filmes", true), actualResult.items().get(1));
+    }
+
+    @Test
+    void givenPrePersistedCategoriesAndTerms_whenCallsFindAllWithRowMapperOnTheLastPage_shouldCountMatchingRows() {
+        final var expectedPage = 1;
+        final var expectedPerPage = 1;
+        final var expectedTotal = 2;
+
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Series", "Uma categoria mais assistida", false);
+        final var documentarios = Category.newCategory("Documentarios", null, true);
+
+        List.of(filmes, series, documentarios).stream()
+                .map(CategoryJpaEntity::from)
+                .forEach(categoryRepository::save);
+
+        final var query = new SearchQuery(1, 1, "MAIS ASSISTIDA", "name", "asc");
+        final var actualResult = categoryGateway.findAll(
+                query,
+                aRow -> List.of(aRow.id(), aRow.active(), aRow.deletedAt())
+        );
+
+        assertEquals(expectedPage, actualResult.currentPage());
+        assertEquals(expectedPerPage, actualResult.perPage());
+        assertEquals(expectedTotal, actualResult.total());
+        assertEquals(List.of(series.getId().getValue(), false, series.getDeletedAt()), actualResult.items().get(0));
+    }
+
     @Test
     void givenEmptyCategoriesTable_whenCallsFindAll_shouldReturnEmptyPage() {
         final var expectedPage = 0;
@@ -0,0 +1,44 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.deletion;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// boots with the interval of application.yml, the test profile only switches the worker on
+@MySQLGatewayTest
+@TestPropertySource(properties = "category.deletion.worker.enabled=true")
+@DirtiesContext
+class CategoryDeletionSchedulerTest {
+
+    @Autowired
+    private CategoryDeletionScheduler scheduler;
+
+    @Autowired
+    private ScheduledTaskHolder scheduledTasks;
+
+    @Test
+    void givenTheWorkerEnabled_whenTheContextStarts_shouldScheduleItWithTheConfiguredInterval() {
+        // given
+        final var expectedInterval = 5000L;
+
+        // when
+        final var actualTasks = scheduledTasks.getScheduledTasks().stream()
+                .map(ScheduledTask::getTask)
+                .filter(FixedDelayTask.class::isInstance)
+                .map(FixedDelayTask.class::cast)
+                .toList();
+
+        // then
+        assertNotNull(scheduler);
+        assertEquals(1, actualTasks.size());
+        assertEquals(expectedInterval, actualTasks.get(0).getInterval());
+        assertEquals(expectedInterval, actualTasks.get(0).getInitialDelay());
+    }
+}
@@ -0,0 +1,178 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.deletion;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryDeletionRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MySQLGatewayTest
+class CategoryDeletionWorkerTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryDeletionRepository deletionRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private SimpleMeterRegistry registry;
+    private CategoryDeletionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        this.registry = new SimpleMeterRegistry();
+        this.worker = new CategoryDeletionWorker(
+                deletionRepository,
+                genreRepository,
+                categoryGateway,
+                new TransactionTemplate(transactionManager),
+                registry,
+                BATCH_SIZE,
+                10
+        );
+    }
+
+    @Test
+    void givenACategoryScheduledForDeletion_whenRunsPending_shouldRemoveItsLinksInBatchesAndThenTheCategory() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var genres = IntStream.range(0, 5)
+                .mapToObj(i -> Genre.newGenre("Genre " + i, true).addCategory(filmes.getId()))
+                .toList();
+        genres.get(0).addCategory(series.getId());
+        genreRepository.saveAllAndFlush(CollectionUtils.mapTo(genres, GenreJpaEntity::from));
+
+        categoryGateway.scheduleDeletion(filmes.deactivate());
+
+        // when
+        final var actualPurged = worker.runPending();
+        entityManager.clear();
+
+        // then
+        assertEquals(1, actualPurged);
+        assertFalse(categoryRepository.existsById(filmes.getId().getValue()));
+        assertTrue(categoryRepository.existsById(series.getId().getValue()));
+        assertEquals(0, deletionRepository.count());
+        assertEquals(5, genreRepository.count());
+        assertTrue(genreRepository.findGenreIdsByCategoryId(filmes.getId().getValue(), PageRequest.of(0, 10)).isEmpty());
+        assertEquals(1, genreRepository.findGenreIdsByCategoryId(series.getId().getValue(), PageRequest.of(0, 10)).size());
+
+        assertEquals(5, registry.get("catalog.category.deletion.links").counter().count());
+        assertEquals(3, registry.get("catalog.category.deletion.batch").timer().count());
+        assertEquals(1, registry.get("catalog.category.deletion.completed").counter().count());
+        assertEquals(0, registry.get("catalog.category.deletion.pending").gauge().value());
+    }
+
+    @Test
+    void givenAPartiallyPurgedCategory_whenRunsPendingAgain_shouldResumeFromTheRemainingLinks() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var genres = IntStream.range(0, 3)
+                .mapToObj(i -> Genre.newGenre("Genre " + i, true).addCategory(filmes.getId()))
+                .toList();
+        genreRepository.saveAllAndFlush(CollectionUtils.mapTo(genres, GenreJpaEntity::from));
+
+        categoryGateway.scheduleDeletion(filmes.deactivate());
+
+        final var firstBatch = genreRepository.findGenreIdsByCategoryId(filmes.getId().getValue(), PageRequest.of(0, BATCH_SIZE));
+        genreRepository.deleteCategoryLinks(filmes.getId().getValue(), firstBatch);
+        deletionRepository.addRemovedLinks(filmes.getId().getValue(), firstBatch.size(), filmes.getUpdatedAt());
+
+        // when
+        final var actualPurged = worker.runPending();
+
+        // then
+        assertEquals(1, actualPurged);
+        assertFalse(categoryRepository.existsById(filmes.getId().getValue()));
+        assertEquals(0, deletionRepository.count());
+        assertEquals(1, registry.get("catalog.category.deletion.links").counter().count());
+    }
+
+    @Test
+    void givenACategoryThatLostItsDeletionMark_whenRunsPending_shouldKeepItsLinksAndDropTheDeletion() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var genres = IntStream.range(0, 3)
+                .mapToObj(i -> Genre.newGenre("Genre " + i, true).addCategory(filmes.getId()))
+                .toList();
+        genreRepository.saveAllAndFlush(CollectionUtils.mapTo(genres, GenreJpaEntity::from));
+
+        categoryGateway.scheduleDeletion(filmes.deactivate());
+        categoryRepository.findById(filmes.getId().getValue()).orElseThrow().update(filmes.activate());
+        categoryRepository.flush();
+
+        // when
+        final var actualPurged = worker.runPending();
+        entityManager.clear();
+
+        // then
+        assertEquals(0, actualPurged);
+        assertTrue(categoryRepository.existsById(filmes.getId().getValue()));
+        assertEquals(0, deletionRepository.count());
+        assertEquals(3, genreRepository.findGenreIdsByCategoryId(filmes.getId().getValue(), PageRequest.of(0, 10)).size());
+        assertEquals(0, registry.get("catalog.category.deletion.completed").counter().count());
+    }
+
+    @Test
+    void givenACategoryWithoutADeletionRow_whenPurges_shouldLeaveItAlone() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, false));
+        final var aGenre = Genre.newGenre("Ação", true).addCategory(filmes.getId());
+        genreRepository.saveAndFlush(GenreJpaEntity.from(aGenre));
+
+        // when
+        final var actualPurged = worker.purge(filmes.getId().getValue());
+
+        // then
+        assertFalse(actualPurged);
+        assertTrue(categoryRepository.existsById(filmes.getId().getValue()));
+        assertEquals(1, genreRepository.findGenreIdsByCategoryId(filmes.getId().getValue(), PageRequest.of(0, 10)).size());
+        assertEquals(0, registry.get("catalog.category.deletion.links").counter().count());
+    }
+
+    @Test
+    void givenNoScheduledDeletions_whenRunsPending_shouldDoNothing() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        // when
+        final var actualPurged = worker.runPending();
+
+        // then
+        assertEquals(0, actualPurged);
+        assertTrue(categoryRepository.existsById(filmes.getId().getValue()));
+        assertEquals(0, registry.get("catalog.category.deletion.batch").timer().count());
+    }
+}
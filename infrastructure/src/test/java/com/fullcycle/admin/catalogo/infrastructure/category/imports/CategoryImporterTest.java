@@ -0,0 +1,190 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.imports;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MySQLGatewayTest
+class CategoryImporterTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    private static final String FILE = """
+            name,description,active
+            Filmes,A categoria mais assistida,true
+            ,Sem nome,true
+            Séries,,false
+            Do,Nome curto,true
+            Documentários,,
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private CategoryImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        this.importer = new CategoryImporter(
+                jdbcTemplate,
+                new TransactionTemplate(transactionManager),
+                entityManagerFactory,
+                BATCH_SIZE,
+                LEASE
+        );
+    }
+
+    @Test
+    void givenValidAndInvalidRows_whenImports_shouldInsertTheValidOnesAndReportTheOthersByLine() throws IOException {
+        // given
+        final var actualErrors = new ArrayList<CategoryImportError>();
+
+        // when
+        final var actualReport = importer.importFrom(csv(FILE), "import-1", actualErrors::add);
+
+        // then
+        assertEquals(new CategoryImportReport("import-1", 5, 3, 2, 0, 6), actualReport);
+        assertEquals(
+                List.of(
+                        new CategoryImportError(3, List.of(new Error("'name' should not be empty"))),
+                        new CategoryImportError(5, List.of(new Error("'name' must be between 3 and 255 characters")))
+                ),
+                actualErrors
+        );
+
+        final var actualCategories = categoryRepository.findAll().stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+        assertEquals(3, actualCategories.size());
+
+        final var series = actualCategories.stream().filter(it -> it.getName().equals("Séries")).findFirst().orElseThrow();
+        assertNull(series.getDescription());
+        assertFalse(series.isActive());
+        assertNotNull(series.getDeletedAt());
+
+        final var documentarios = actualCategories.stream().filter(it -> it.getName().equals("Documentários")).findFirst().orElseThrow();
+        assertTrue(documentarios.isActive());
+        assertNull(documentarios.getDeletedAt());
+
+        assertEquals(Map.of("LAST_LINE", 6L, "IMPORTED", 3L, "REJECTED", 2L), checkpoint("import-1"));
+    }
+
+    @Test
+    void givenACompletedImport_whenImportsTheSameFileAgain_shouldSkipEveryLine() throws IOException {
+        // given
+        importer.importFrom(csv(FILE), "import-1", anError -> {});
+        final var actualErrors = new ArrayList<CategoryImportError>();
+
+        // when
+        final var actualReport = importer.importFrom(csv(FILE), "import-1", actualErrors::add);
+
+        // then
+        assertEquals(new CategoryImportReport("import-1", 5, 0, 0, 5, 6), actualReport);
+        assertTrue(actualErrors.isEmpty());
+        assertEquals(3, categoryRepository.count());
+        assertEquals(Map.of("LAST_LINE", 6L, "IMPORTED", 3L, "REJECTED", 2L), checkpoint("import-1"));
+    }
+
+    @Test
+    void givenAnInterruptedImport_whenImportsAgain_shouldResumeAfterTheCheckpoint() throws IOException {
+        // given
+        final var now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(
+                "INSERT INTO category_imports (id, last_line, imported, rejected, created_at, updated_at) VALUES (?, 3, 1, 1, ?, ?)",
+                "import-1", now, now
+        );
+
+        // when
+        final var actualReport = importer.importFrom(csv(FILE), "import-1", anError -> {});
+
+        // then
+        assertEquals(new CategoryImportReport("import-1", 5, 2, 1, 2, 6), actualReport);
+        assertEquals(
+                List.of("Documentários", "Séries"),
+                categoryRepository.findAll().stream().map(CategoryJpaEntity::getName).sorted().toList()
+        );
+        assertEquals(Map.of("LAST_LINE", 6L, "IMPORTED", 3L, "REJECTED", 2L), checkpoint("import-1"));
+    }
+
+    @Test
+    void givenARunningImport_whenClaimsTheSameId_shouldThrowDomainException() {
+        // given
+        final var expectedErrorMessage = "Import import-1 is already running";
+        importer.claim("import-1");
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> importer.claim("import-1"));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void givenAFinishedImport_whenClaimsTheSameId_shouldResumeAfterItsCheckpoint() throws IOException {
+        // given
+        importer.importFrom(csv(FILE), "import-1", anError -> {});
+
+        // when
+        final var actualCheckpoint = importer.claim("import-1");
+
+        // then
+        assertEquals(6, actualCheckpoint);
+    }
+
+    @Test
+    void givenAClaimThatStoppedCheckpointing_whenClaimsAfterTheLease_shouldTakeItOver() {
+        // given
+        final var stale = Timestamp.from(Instant.now().minus(LEASE).minusSeconds(1));
+        jdbcTemplate.update(
+                "INSERT INTO category_imports (id, last_line, imported, rejected, running, created_at, updated_at) VALUES (?, 3, 1, 1, TRUE, ?, ?)",
+                "import-1", stale, stale
+        );
+
+        // when
+        final var actualCheckpoint = importer.claim("import-1");
+
+        // then
+        assertEquals(3, actualCheckpoint);
+    }
+
+    private Map<String, Object> checkpoint(final String anImportId) {
+        return jdbcTemplate.queryForMap(
+                "SELECT last_line, imported, rejected FROM category_imports WHERE id = ?",
+                anImportId
+        );
+    }
+
+    private static CategoryImportReader csv(final String aFile) {
+        return new CsvCategoryImportReader(new StringReader(aFile));
+    }
+}
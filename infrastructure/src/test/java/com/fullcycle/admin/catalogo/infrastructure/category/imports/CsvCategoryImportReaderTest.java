@@ -0,0 +1,99 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.imports;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CsvRecordReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvCategoryImportReaderTest {
+
+    @Test
+    void givenAValidFile_whenReadsAllRows_shouldReturnOneRowPerRecordWithItsLine() throws IOException {
+        // given
+        final var aFile = """
+                name,description,active
+                Filmes,A categoria mais assistida,true
+                Séries,,false
+                Documentários,Sem status,
+                """;
+
+        // when
+        final var actualRows = readAll(aFile);
+
+        // then
+        assertEquals(3, actualRows.size());
+        assertEquals(CategoryImportRow.with(2, "Filmes", "A categoria mais assistida", true), actualRows.get(0));
+        assertEquals(CategoryImportRow.with(3, "Séries", null, false), actualRows.get(1));
+        assertEquals(CategoryImportRow.with(4, "Documentários", "Sem status", null), actualRows.get(2));
+    }
+
+    @Test
+    void givenQuotedFields_whenReadsAllRows_shouldKeepCommasLineBreaksAndEscapedQuotes() throws IOException {
+        // given
+        final var aFile = "active,name,description\r\n"
+                + "1,\"Filmes, curtas\",\"Primeira linha\nsegunda \"\"linha\"\"\"\r\n"
+                + "0,Séries,\r\n";
+
+        // when
+        final var actualRows = readAll(aFile);
+
+        // then
+        assertEquals(2, actualRows.size());
+        assertEquals(
+                CategoryImportRow.with(2, "Filmes, curtas", "Primeira linha\nsegunda \"linha\"", true),
+                actualRows.get(0)
+        );
+        assertEquals(CategoryImportRow.with(4, "Séries", null, false), actualRows.get(1));
+    }
+
+    @Test
+    void givenMalformedRecords_whenReadsAllRows_shouldReportThemAndKeepReading() throws IOException {
+        // given
+        final var aFile = "name,active\n"
+                + "Filmes,maybe\n"
+                + "x".repeat(CsvRecordReader.MAX_RECORD_LENGTH + 1) + ",true\n"
+                + "\n"
+                + "Séries,true\n"
+                + "\"Documentários,true\n";
+
+        // when
+        final var actualRows = readAll(aFile);
+
+        // then
+        assertEquals(4, actualRows.size());
+        assertEquals(CategoryImportRow.invalid(2, "'active' must be true or false"), actualRows.get(0));
+        assertEquals(
+                CategoryImportRow.invalid(3, "record longer than %d characters".formatted(CsvRecordReader.MAX_RECORD_LENGTH)),
+                actualRows.get(1)
+        );
+        assertEquals(CategoryImportRow.with(5, "Séries", null, true), actualRows.get(2));
+        assertEquals(CategoryImportRow.invalid(6, "unterminated quoted field"), actualRows.get(3));
+    }
+
+    @Test
+    void givenAHeaderWithoutName_whenOpens_shouldThrowDomainException() {
+        final var actualException = assertThrows(
+                DomainException.class,
+                () -> new CsvCategoryImportReader(new StringReader("description,active\nA categoria,true\n"))
+        );
+
+        assertEquals("CSV header must have a 'name' column", actualException.getMessage());
+    }
+
+    private static List<CategoryImportRow> readAll(final String aFile) throws IOException {
+        final var rows = new ArrayList<CategoryImportRow>();
+        try (final var aReader = new CsvCategoryImportReader(new StringReader(aFile))) {
+            CategoryImportRow aRow;
+            while ((aRow = aReader.next()) != null) {
+                rows.add(aRow);
+            }
+        }
+        return rows;
+    }
+}
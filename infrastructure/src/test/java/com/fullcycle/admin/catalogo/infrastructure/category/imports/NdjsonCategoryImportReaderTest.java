@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.imports;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonCategoryImportReaderTest {
+
+    @Test
+    void givenAValidFile_whenReadsAllRows_shouldReturnOneRowPerLine() throws IOException {
+        // given
+        final var aFile = """
+                {"name": "Filmes", "description": "A categoria mais assistida", "active": true}
+
+                {"name": "Séries", "active": false, "ignored": 1}
+                {"name": "Documentários"}
+                """;
+
+        // when
+        final var actualRows = readAll(aFile);
+
+        // then
+        assertEquals(3, actualRows.size());
+        assertEquals(CategoryImportRow.with(1, "Filmes", "A categoria mais assistida", true), actualRows.get(0));
+        assertEquals(CategoryImportRow.with(3, "Séries", null, false), actualRows.get(1));
+        assertEquals(CategoryImportRow.with(4, "Documentários", null, null), actualRows.get(2));
+    }
+
+    @Test
+    void givenMalformedLines_whenReadsAllRows_shouldReportThemAndKeepReading() throws IOException {
+        // given
+        final var aFile = """
+                {"name": "Filmes"
+                null
+                {"name": "Séries", "active": "maybe"}
+                {"name": "Documentários"}
+                """;
+
+        // when
+        final var actualRows = readAll(aFile);
+
+        // then
+        assertEquals(4, actualRows.size());
+        assertFalse(actualRows.get(0).isReadable());
+        assertEquals(1, actualRows.get(0).line());
+        assertEquals(CategoryImportRow.invalid(2, "expected a JSON object"), actualRows.get(1));
+        assertFalse(actualRows.get(2).isReadable());
+        assertEquals(3, actualRows.get(2).line());
+        assertEquals(CategoryImportRow.with(4, "Documentários", null, null), actualRows.get(3));
+    }
+
+    private static List<CategoryImportRow> readAll(final String aFile) throws IOException {
+        final var rows = new ArrayList<CategoryImportRow>();
+        try (final var aReader = new NdjsonCategoryImportReader(new StringReader(aFile))) {
+            CategoryImportRow aRow;
+            while ((aRow = aReader.next()) != null) {
+                rows.add(aRow);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,207 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.QueryPlan;
+import com.fullcycle.admin.catalogo.StatementRecorder;
+import com.fullcycle.admin.catalogo.domain.category.CategoryRow;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Explains, on MySQL, the statements Hibernate emits for the category listing. H2 neither reports filesorts nor
+ * reads an index backwards, so its plans say nothing about these queries.
+ */
+@MySQLGatewayTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = StatementRecorder.PROPERTY)
+class CategoryQueryPlanTest {
+
+    private static final int PER_PAGE = 10;
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER = new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.driver-class-name", MYSQL_CONTAINER::getDriverClassName);
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+    }
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Enough rows for the optimizer to prefer an index, half of them deleted
+        jdbcTemplate.update("""
+                INSERT INTO category (id, name, description, active, created_at, updated_at, deleted_at)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000)
+                SELECT UUID_TO_BIN(UUID()), CONCAT('Category ', n), NULL, n % 2 = 0,
+                       NOW(6) - INTERVAL n MINUTE, NOW(6) - INTERVAL n SECOND, IF(n % 2 = 0, NULL, NOW(6))
+                FROM seq
+                """);
+        // Commits the rows above, the optimizer only sees committed statistics
+        jdbcTemplate.execute("ANALYZE TABLE category");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "name,asc,,idx_category_name",
+            "name,desc,,idx_category_name",
+            "createdAt,asc,,idx_category_created_at",
+            "createdAt,desc,,idx_category_created_at",
+            "updatedAt,asc,,idx_category_updated_at",
+            "updatedAt,desc,,idx_category_updated_at",
+            "name,asc,true,idx_category_active_name",
+            "name,desc,false,idx_category_active_name",
+            "createdAt,asc,false,idx_category_active_created_at",
+            "createdAt,desc,true,idx_category_active_created_at",
+            "updatedAt,asc,true,idx_category_active_updated_at",
+            "updatedAt,desc,false,idx_category_active_updated_at",
+    })
+    void givenAnAllowedSortKeyAndDirection_whenListsCategories_shouldReadAnIndexInSortOrder(
+            final String aSort,
+            final String aDirection,
+            final Boolean active,
+            final String expectedIndex
+    ) {
+        // given
+        final var aQuery = new SearchQuery(0, PER_PAGE, "", aSort, aDirection, active, null);
+
+        // when
+        final var actualPlan = explain(listStatement(aQuery), filterParams(active, null, PER_PAGE));
+
+        // then
+        Assertions.assertEquals(expectedIndex, actualPlan.key(), actualPlan.toString());
+        Assertions.assertFalse(actualPlan.usesFilesort(), actualPlan.toString());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "createdAt,desc,,false,idx_category_active_created_at",
+            "updatedAt,asc,true,false,idx_category_active_updated_at",
+    })
+    void givenADeletedFilterAndASortKey_whenListsCategories_shouldReadTheActiveIndexInSortOrder(
+            final String aSort,
+            final String aDirection,
+            final Boolean active,
+            final Boolean deleted,
+            final String expectedIndex
+    ) {
+        // given
+        final var aQuery = new SearchQuery(0, PER_PAGE, "", aSort, aDirection, active, deleted);
+
+        // when
+        final var actualPlan = explain(listStatement(aQuery), filterParams(active, deleted, PER_PAGE));
+
+        // then
+        Assertions.assertEquals(expectedIndex, actualPlan.key(), actualPlan.toString());
+        Assertions.assertFalse(actualPlan.usesFilesort(), actualPlan.toString());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "true,",
+            "false,",
+            ",false",
+            ",true",
+            "true,false",
+            "false,true",
+    })
+    void givenAnActiveOrDeletedFilter_whenListsCategories_shouldSeekTheActiveIndexInSortOrder(
+            final Boolean active,
+            final Boolean deleted
+    ) {
+        // given
+        final var aQuery = new SearchQuery(0, PER_PAGE, "", "name", "asc", active, deleted);
+
+        // when
+        final var actualPlan = explain(listStatement(aQuery), filterParams(active, deleted, PER_PAGE));
+
+        // then
+        Assertions.assertEquals("idx_category_active_name", actualPlan.key(), actualPlan.toString());
+        Assertions.assertFalse(actualPlan.usesFilesort(), actualPlan.toString());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "true,",
+            "false,",
+            ",false",
+            "true,false",
+    })
+    void givenAnActiveOrDeletedFilter_whenCountsCategories_shouldSeekTheActiveIndex(
+            final Boolean active,
+            final Boolean deleted
+    ) {
+        // given
+        final var aQuery = new SearchQuery(0, PER_PAGE, "", "name", "asc", active, deleted);
+
+        // when
+        final var actualPlan = explain(countStatement(aQuery), filterParams(active, deleted));
+
+        // then
+        Assertions.assertTrue(actualPlan.key().startsWith("idx_category_active_"), actualPlan.toString());
+    }
+
+    private List<String> statementsOf(final SearchQuery aQuery) {
+        return StatementRecorder.record(() -> categoryGateway.findAll(aQuery, CategoryRow::id));
+    }
+
+    private String listStatement(final SearchQuery aQuery) {
+        return statementsOf(aQuery).stream()
+                .filter(sql -> sql.contains(" order by "))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private String countStatement(final SearchQuery aQuery) {
+        return statementsOf(aQuery).stream()
+                .filter(sql -> sql.startsWith("select count("))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private QueryPlan explain(final String sql, final Object... params) {
+        final var plans = QueryPlan.explain(jdbcTemplate, sql, params);
+        Assertions.assertEquals(1, plans.size(), plans.toString());
+        return plans.get(0);
+    }
+
+    // Parameters in the order the where clause binds them: active, then the active value a deleted filter implies
+    private static Object[] filterParams(final Boolean active, final Boolean deleted, final Object... rest) {
+        final var params = new ArrayList<>();
+        if (active != null) {
+            params.add(active);
+        }
+        if (deleted != null) {
+            params.add(!deleted);
+        }
+        params.addAll(List.of(rest));
+        return params.toArray();
+    }
+}
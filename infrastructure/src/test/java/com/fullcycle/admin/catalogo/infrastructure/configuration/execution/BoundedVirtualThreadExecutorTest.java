@@ -0,0 +1,74 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.execution;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+class BoundedVirtualThreadExecutorTest {
+
+    // Stands in for Executors.newVirtualThreadPerTaskExecutor(), which the build JDK does not have
+    private final ExecutorService threadPerTask = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        threadPerTask.shutdownNow();
+    }
+
+    @Test
+    void givenAllPermitsInUse_whenExecutesWithAbort_shouldRejectTheTask() throws InterruptedException {
+        // given
+        final var release = new CountDownLatch(1);
+        final var anExecutor = new BoundedVirtualThreadExecutor(
+                threadPerTask, 1, aTask -> aTask, BoundedVirtualThreadExecutor.abort()
+        );
+        anExecutor.execute(() -> await(release));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                RejectedExecutionException.class,
+                () -> anExecutor.execute(() -> {})
+        );
+
+        // then
+        Assertions.assertEquals("Too many use cases in flight", actualException.getMessage());
+        Assertions.assertEquals(1, anExecutor.inFlight());
+
+        release.countDown();
+        anExecutor.shutdown();
+        Assertions.assertTrue(anExecutor.awaitTermination(1, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, anExecutor.inFlight());
+    }
+
+    @Test
+    void givenAllPermitsInUse_whenExecutesWithCallerRuns_shouldRunOnTheCallingThread() {
+        // given
+        final var release = new CountDownLatch(1);
+        final var actualThread = new AtomicReference<Thread>();
+        final var anExecutor = new BoundedVirtualThreadExecutor(
+                threadPerTask, 1, aTask -> aTask, BoundedVirtualThreadExecutor.callerRuns()
+        );
+        anExecutor.execute(() -> await(release));
+
+        // when
+        anExecutor.execute(() -> actualThread.set(Thread.currentThread()));
+
+        // then
+        Assertions.assertSame(Thread.currentThread(), actualThread.get());
+        release.countDown();
+    }
+
+    private static void await(final CountDownLatch aLatch) {
+        try {
+            aLatch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
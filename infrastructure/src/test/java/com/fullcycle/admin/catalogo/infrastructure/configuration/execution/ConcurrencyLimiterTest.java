@@ -0,0 +1,127 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.execution;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ConcurrencyLimiterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void givenBusyCallsWithSteadyLatency_whenReleased_shouldGrowTheLimitUpToTheMax() {
+        // given
+        final var expectedLimit = 8;
+        final var aLimiter = ConcurrencyLimiter.adaptive(2, 4, expectedLimit, 10, 2.0, nanoTime::get);
+
+        // when
+        for (int round = 0; round < 200; round++) {
+            final var permits = new ArrayList<ConcurrencyLimiter.Permit>();
+            for (int i = 0; i < aLimiter.limit(); i++) {
+                permits.add(aLimiter.acquire(Duration.ZERO));
+            }
+            nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            permits.forEach(permit -> permit.release(false));
+        }
+
+        // then
+        Assertions.assertEquals(expectedLimit, aLimiter.limit());
+        Assertions.assertEquals(0, aLimiter.inFlight());
+    }
+
+    @Test
+    void givenFastAndSlowCallsWithSteadyLatency_whenReleased_shouldGrowTheLimitUpToTheMax() {
+        // given
+        final var expectedLimit = 8;
+        final var aLimiter = ConcurrencyLimiter.adaptive(2, 4, expectedLimit, 10, 2.0, nanoTime::get);
+
+        // when
+        for (int round = 0; round < 200; round++) {
+            final var lookups = new ArrayList<ConcurrencyLimiter.Permit>();
+            final var listings = new ArrayList<ConcurrencyLimiter.Permit>();
+            for (int i = 0; i < aLimiter.limit(); i++) {
+                if (i % 2 == 0) {
+                    lookups.add(aLimiter.acquire("findById", Duration.ZERO));
+                } else {
+                    listings.add(aLimiter.acquire("findAll", Duration.ZERO));
+                }
+            }
+            nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            lookups.forEach(permit -> permit.release(false));
+            nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(19));
+            listings.forEach(permit -> permit.release(false));
+        }
+
+        // then
+        Assertions.assertEquals(expectedLimit, aLimiter.limit());
+        Assertions.assertEquals(0, aLimiter.inFlight());
+    }
+
+    @Test
+    void givenACallSlowerThanTheTolerance_whenReleased_shouldBackOff() {
+        // given
+        final var aLimiter = ConcurrencyLimiter.adaptive(2, 10, 20, 10, 2.0, nanoTime::get);
+        release(aLimiter, Duration.ofMillis(1), false);
+
+        // when
+        release(aLimiter, Duration.ofMillis(10), false);
+        release(aLimiter, Duration.ofMillis(1), true);
+
+        // then
+        Assertions.assertEquals(8, aLimiter.limit());
+    }
+
+    @Test
+    void givenAllSlotsInUse_whenTheDeadlinePasses_shouldRejectTheCaller() {
+        // given
+        final var aLimiter = ConcurrencyLimiter.fixed(1, 10);
+        final var aPermit = aLimiter.acquire(Duration.ZERO);
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DatabaseOverloadedException.class,
+                () -> aLimiter.acquire(Duration.ofMillis(50))
+        );
+
+        // then
+        Assertions.assertEquals("Could not acquire a database slot within 50 ms", actualException.getMessage());
+        Assertions.assertEquals(1, aLimiter.rejected());
+        Assertions.assertEquals(0, aLimiter.queued());
+        aPermit.release(false);
+    }
+
+    @Test
+    void givenAFullQueue_whenAcquires_shouldRejectRightAwayAndLetTheQueuedCallerProceed() throws Exception {
+        // given
+        final var aLimiter = ConcurrencyLimiter.fixed(1, 1);
+        final var aPermit = aLimiter.acquire(Duration.ZERO);
+        final var aQueuedCall = CompletableFuture.supplyAsync(() -> aLimiter.acquire(Duration.ofSeconds(5)));
+
+        while (aLimiter.queued() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DatabaseOverloadedException.class,
+                () -> aLimiter.acquire(Duration.ofSeconds(5))
+        );
+        aPermit.release(false);
+
+        // then
+        Assertions.assertEquals("Database is overloaded, 1 calls already waiting for a slot", actualException.getMessage());
+        aQueuedCall.get(5, TimeUnit.SECONDS).release(false);
+        Assertions.assertEquals(0, aLimiter.inFlight());
+    }
+
+    private void release(final ConcurrencyLimiter aLimiter, final Duration aLatency, final boolean dropped) {
+        final var aPermit = aLimiter.acquire(Duration.ZERO);
+        nanoTime.addAndGet(aLatency.toNanos());
+        aPermit.release(dropped);
+    }
+}
@@ -0,0 +1,158 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.execution;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.persistence.ReadOnlyTransactionAspect;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.aspectj.annotation.AnnotationAwareAspectJAutoProxyCreator;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+
+class DatabaseConcurrencyAspectTest {
+
+    @Test
+    void givenAFreeSlot_whenCallsGateway_shouldReleaseSlotAfterCall() {
+        // given
+        final var anAspect = new DatabaseConcurrencyAspect(2, Duration.ofMillis(50));
+        final var aGateway = Mockito.mock(CategoryGateway.class);
+        Mockito.when(aGateway.findById(any())).thenReturn(Optional.empty());
+
+        // when
+        proxy(aGateway, anAspect).findById(null);
+
+        // then
+        Assertions.assertEquals(2, anAspect.availablePermits());
+    }
+
+    @Test
+    void givenAllSlotsInUse_whenCallsGateway_shouldThrowDatabaseOverloadedException() throws Exception {
+        // given
+        final var anAspect = new DatabaseConcurrencyAspect(1, Duration.ofMillis(50));
+        final var aGateway = Mockito.mock(CategoryGateway.class);
+        final var entered = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        Mockito.when(aGateway.findById(any())).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+
+        final var aProxy = proxy(aGateway, anAspect);
+        final var aBlockedCall = CompletableFuture.runAsync(() -> aProxy.findById(null));
+        entered.await(5, TimeUnit.SECONDS);
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DatabaseOverloadedException.class,
+                () -> aProxy.findById(null)
+        );
+
+        // then
+        Assertions.assertEquals("Could not acquire a database slot within 50 ms", actualException.getMessage());
+
+        release.countDown();
+        aBlockedCall.get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, anAspect.availablePermits());
+    }
+
+    @Test
+    void givenAReadUseCaseHoldingTheOnlySlot_whenItCallsTheGateway_shouldReuseItsSlot() {
+        // given
+        final var anAspect = new DatabaseConcurrencyAspect(1, Duration.ofMillis(50));
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var aGateway = Mockito.mock(CategoryGateway.class);
+        Mockito.when(aGateway.findById(any())).thenReturn(Optional.of(aCategory));
+
+        final var aUseCase = proxy(new FindCategoryUseCase(proxy(aGateway, anAspect)), anAspect);
+
+        // when
+        final var actualOutput = aUseCase.execute(aCategory.getId().getValue());
+
+        // then
+        Assertions.assertEquals(aCategory.getId(), actualOutput.id());
+        Assertions.assertEquals(1, anAspect.availablePermits());
+    }
+
+    @Test
+    void givenAllSlotsInUse_whenCallsAReadUseCase_shouldRejectBeforeOpeningItsTransaction() {
+        // given
+        final var anAspect = new DatabaseConcurrencyAspect(1, Duration.ofMillis(50));
+        final var aTransactionManager = Mockito.mock(PlatformTransactionManager.class);
+        final var aTransactionAspect = new ReadOnlyTransactionAspect(
+                aTransactionManager,
+                Mockito.mock(EntityManager.class)
+        );
+
+        final var aContext = new AnnotationConfigApplicationContext();
+        aContext.registerBean(AnnotationAwareAspectJAutoProxyCreator.class);
+        aContext.registerBean(ReadOnlyTransactionAspect.class, () -> aTransactionAspect);
+        aContext.registerBean(DatabaseConcurrencyAspect.class, () -> anAspect);
+        aContext.registerBean(
+                GetCategoryByIdUseCase.class,
+                () -> new FindCategoryUseCase(Mockito.mock(CategoryGateway.class))
+        );
+        aContext.refresh();
+
+        final var aUseCase = aContext.getBean(GetCategoryByIdUseCase.class);
+        final var aPermit = anAspect.limiter().acquire(Duration.ZERO);
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DatabaseOverloadedException.class,
+                () -> aUseCase.execute("123")
+        );
+        aContext.close();
+
+        // then
+        Assertions.assertEquals("Could not acquire a database slot within 50 ms", actualException.getMessage());
+        Mockito.verify(aTransactionManager, Mockito.never()).getTransaction(any());
+        aPermit.release(false);
+    }
+
+    @Test
+    void givenTheRunningJdk_whenCreatesVirtualThreadExecutor_shouldOnlyBePresentFromJdk21() {
+        final var actualExecutor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+
+        Assertions.assertEquals(Runtime.version().feature() >= 21, actualExecutor.isPresent());
+        actualExecutor.ifPresent(executor -> executor.shutdown());
+    }
+
+    private static <T> T proxy(final T aTarget, final DatabaseConcurrencyAspect anAspect) {
+        final var factory = new AspectJProxyFactory(aTarget);
+        factory.addAspect(anAspect);
+        return factory.getProxy();
+    }
+
+    static class FindCategoryUseCase extends GetCategoryByIdUseCase {
+
+        private final CategoryGateway categoryGateway;
+
+        FindCategoryUseCase(final CategoryGateway categoryGateway) {
+            this.categoryGateway = categoryGateway;
+        }
+
+        @Override
+        public CategoryOutput execute(final String anId) {
+            return this.categoryGateway.findById(CategoryID.from(anId))
+                    .map(CategoryOutput::from)
+                    .orElseThrow();
+        }
+    }
+}
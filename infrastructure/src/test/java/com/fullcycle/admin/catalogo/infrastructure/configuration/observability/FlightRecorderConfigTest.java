@@ -0,0 +1,65 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.observability;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+
+class FlightRecorderConfigTest {
+
+    @Test
+    void givenTheCatalogProfile_whenLoadSettings_shouldEnableCatalogEvents() throws Exception {
+        // when
+        final var actualSettings = FlightRecorderConfig.loadSettings(new ClassPathResource("jfr/catalog.jfc"));
+
+        // then
+        Assertions.assertEquals("Catalog", actualSettings.getLabel());
+        Assertions.assertEquals("true", actualSettings.getSettings().get("catalog.UseCaseExecution#enabled"));
+        Assertions.assertEquals("true", actualSettings.getSettings().get("catalog.GatewayCall#enabled"));
+        Assertions.assertEquals("true", actualSettings.getSettings().get("catalog.JsonWrite#enabled"));
+    }
+
+    @Test
+    void givenARecording_whenCallsAGateway_shouldEmitGatewayCallEvent(@TempDir final Path aDirectory) throws Exception {
+        // given
+        final var aGateway = Mockito.mock(CategoryGateway.class);
+        Mockito.when(aGateway.findById(any())).thenReturn(Optional.empty());
+
+        final var factory = new AspectJProxyFactory(aGateway);
+        factory.addAspect(new GatewayMetricsAspect(new SimpleMeterRegistry(), Duration.ofSeconds(1)));
+        final CategoryGateway aProxy = factory.getProxy();
+
+        final var aDestination = aDirectory.resolve("catalog.jfr");
+        final var settings = FlightRecorderConfig.loadSettings(new ClassPathResource("jfr/catalog.jfc"));
+
+        // when
+        try (final var aRecording = new Recording(settings)) {
+            aRecording.start();
+            aProxy.findById(null);
+            aRecording.stop();
+            aRecording.dump(aDestination);
+        }
+
+        // then
+        final var actualEvent = RecordingFile.readAllEvents(aDestination).stream()
+                .filter(it -> it.getEventType().getName().equals("catalog.GatewayCall"))
+                .findFirst()
+                .orElseThrow();
+
+        Assertions.assertEquals("findById", actualEvent.getString("method"));
+        Assertions.assertEquals("success", actualEvent.getString("outcome"));
+        Assertions.assertEquals(0, actualEvent.getLong("rows"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.observability;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+
+class GatewayMetricsAspectTest {
+
+    @Test
+    void givenAGatewayCall_whenCallsFindAll_shouldRecordTimerAndRows() {
+        // given
+        final var registry = new SimpleMeterRegistry();
+        final var aGateway = Mockito.mock(CategoryGateway.class);
+        final var expectedItems = List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Series", null, true)
+        );
+
+        Mockito.when(aGateway.findAll(any()))
+                .thenReturn(new Pagination<>(0, 10, 2, expectedItems));
+
+        final var aProxy = proxy(aGateway, new GatewayMetricsAspect(registry, Duration.ZERO));
+
+        // when
+        aProxy.findAll(new SearchQuery(0, 10, "fil", "name", "asc"));
+
+        // then
+        final var actualTimer = registry.get("catalog.gateway.calls")
+                .tag("method", "findAll")
+                .tag("outcome", "success")
+                .timer();
+
+        Assertions.assertEquals(1, actualTimer.count());
+        Assertions.assertEquals(2, registry.get("catalog.gateway.rows")
+                .tag("method", "findAll")
+                .summary()
+                .totalAmount());
+    }
+
+    @Test
+    void givenAGatewayError_whenCallsFindById_shouldRecordErrorOutcome() {
+        // given
+        final var registry = new SimpleMeterRegistry();
+        final var aGateway = Mockito.mock(CategoryGateway.class);
+
+        Mockito.when(aGateway.findById(any()))
+                .thenThrow(new IllegalStateException("Gateway error"));
+
+        final var aProxy = proxy(aGateway, new GatewayMetricsAspect(registry, Duration.ofSeconds(1)));
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class, () -> aProxy.findById(null));
+
+        // then
+        Assertions.assertEquals(1, registry.get("catalog.gateway.calls")
+                .tag("method", "findById")
+                .tag("outcome", "error")
+                .timer()
+                .count());
+    }
+
+    @Test
+    void givenAnEmptyResult_whenCallsFindById_shouldRecordZeroRows() {
+        // given
+        final var registry = new SimpleMeterRegistry();
+        final var aGateway = Mockito.mock(CategoryGateway.class);
+
+        Mockito.when(aGateway.findById(any()))
+                .thenReturn(Optional.empty());
+
+        final var aProxy = proxy(aGateway, new GatewayMetricsAspect(registry, Duration.ofSeconds(1)));
+
+        // when
+        aProxy.findById(null);
+
+        // then
+        Assertions.assertEquals(0, registry.get("catalog.gateway.rows")
+                .tag("method", "findById")
+                .summary()
+                .totalAmount());
+    }
+
+    private static CategoryGateway proxy(final CategoryGateway aGateway, final GatewayMetricsAspect anAspect) {
+        final var factory = new AspectJProxyFactory(aGateway);
+        factory.addAspect(anAspect);
+        return factory.getProxy();
+    }
+}
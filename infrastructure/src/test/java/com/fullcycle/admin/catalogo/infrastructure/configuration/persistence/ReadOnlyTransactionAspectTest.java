@@ -0,0 +1,88 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.persistence;
+
+import com.fullcycle.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import javax.persistence.EntityManager;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+
+class ReadOnlyTransactionAspectTest {
+
+    private final PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+    private final EntityManager entityManager = Mockito.mock(EntityManager.class);
+    private final Session session = Mockito.mock(Session.class);
+    private final CategoryGateway categoryGateway = Mockito.mock(CategoryGateway.class);
+
+    @Test
+    void givenARetrieveUseCase_whenCallsExecute_shouldRunInAReadOnlyTransactionWithoutFlushing() {
+        // given
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        Mockito.when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        Mockito.when(entityManager.unwrap(Session.class)).thenReturn(session);
+        Mockito.when(categoryGateway.findById(any())).thenReturn(Optional.of(aCategory));
+
+        // when
+        final var actualOutput = proxy(new DefaultGetCategoryByIdUseCase(categoryGateway))
+                .execute(aCategory.getId().getValue());
+
+        // then
+        final var definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        Mockito.verify(transactionManager).getTransaction(definition.capture());
+        Mockito.verify(transactionManager).commit(any());
+        Mockito.verify(session).setHibernateFlushMode(FlushMode.MANUAL);
+        Mockito.verify(session).setDefaultReadOnly(true);
+
+        Assertions.assertTrue(definition.getValue().isReadOnly());
+        Assertions.assertEquals(aCategory.getId(), actualOutput.id());
+    }
+
+    @Test
+    void givenARetrieveUseCaseThatFails_whenCallsExecute_shouldRollbackAndRethrow() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+        Mockito.when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        Mockito.when(entityManager.unwrap(Session.class)).thenReturn(session);
+        Mockito.when(categoryGateway.findById(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> proxy(new DefaultGetCategoryByIdUseCase(categoryGateway)).execute("123")
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Mockito.verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void givenACommandUseCase_whenCallsExecute_shouldNotOpenATransaction() {
+        // when
+        proxy(new DefaultDeleteCategoryUseCase(categoryGateway)).execute("123");
+
+        // then
+        Mockito.verifyNoInteractions(transactionManager, entityManager);
+        Mockito.verify(categoryGateway).deleteById(any());
+    }
+
+    private <T> T proxy(final T aUseCase) {
+        final var factory = new AspectJProxyFactory(aUseCase);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ReadOnlyTransactionAspect(transactionManager, entityManager));
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,131 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.execution.ClientContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        final var aPrimary = h2("primary");
+        final var aReplica = h2("replica");
+        final var aStickiness = new ReplicaStickiness(Duration.ofSeconds(2), nanoTime::get);
+        final var aDataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(aPrimary, aReplica, aStickiness)
+        );
+
+        /* A JPA transaction manager, like the application's, so Hibernate's own read-only handling is in the way */
+        this.entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        this.entityManagerFactory.setDataSource(aDataSource);
+        this.entityManagerFactory.setPackagesToScan(ReadWriteRoutingDataSourceTest.class.getPackageName());
+        this.entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        this.entityManagerFactory.afterPropertiesSet();
+
+        final var aTransactionManager = new JpaTransactionManager(this.entityManagerFactory.getObject());
+        aTransactionManager.setDataSource(aDataSource);
+
+        this.jdbcTemplate = new JdbcTemplate(aDataSource);
+        this.readWrite = new TransactionTemplate(aTransactionManager);
+        this.readOnly = new TransactionTemplate(aTransactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        ClientContext.clear();
+        this.entityManagerFactory.destroy();
+    }
+
+    @Test
+    void givenAReadOnlyTransactionOpenedForTheReplica_whenQueries_shouldUseTheReplica() {
+        Assertions.assertEquals("replica", readFromReplica());
+    }
+
+    @Test
+    void givenAPlainReadOnlyTransaction_whenQueries_shouldUseThePrimary() {
+        /* what SimpleJpaRepository.findById opens inside a command */
+        Assertions.assertEquals("primary", this.readOnly.execute(status -> whoAmI()));
+    }
+
+    @Test
+    void givenAPlainReadOnlyTransactionInsideAReadWriteOne_whenQueries_shouldSeeTheUncommittedWrite() {
+        final var actualName = this.readWrite.execute(status -> {
+            this.jdbcTemplate.update("UPDATE node SET name = 'written'");
+            final var aName = this.readOnly.execute(inner -> whoAmI());
+            status.setRollbackOnly();
+            return aName;
+        });
+
+        Assertions.assertEquals("written", actualName);
+    }
+
+    @Test
+    void givenAReadWriteTransaction_whenQueries_shouldUseThePrimary() {
+        Assertions.assertEquals("primary", this.readWrite.execute(status -> whoAmI()));
+    }
+
+    @Test
+    void givenAClientThatJustWrote_whenReadsWithinTheWindow_shouldStickToThePrimary() {
+        ClientContext.set("client-a");
+        this.readWrite.executeWithoutResult(status -> whoAmI());
+
+        Assertions.assertEquals("primary", readFromReplica());
+
+        ClientContext.set("client-b");
+        Assertions.assertEquals("replica", readFromReplica());
+
+        ClientContext.set("client-a");
+        nanoTime.addAndGet(Duration.ofSeconds(2).toNanos());
+        Assertions.assertEquals("replica", readFromReplica());
+    }
+
+    @Test
+    void givenAClientWhoseWriteRolledBack_whenReads_shouldUseTheReplica() {
+        ClientContext.set("client-a");
+        this.readWrite.executeWithoutResult(status -> {
+            whoAmI();
+            status.setRollbackOnly();
+        });
+
+        Assertions.assertEquals("replica", readFromReplica());
+    }
+
+    private String readFromReplica() {
+        return ReadWriteRoutingDataSource.readingFromReplica(() -> this.readOnly.execute(status -> whoAmI()));
+    }
+
+    private String whoAmI() {
+        return this.jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DriverManagerDataSource h2(final String aName) {
+        final var aDataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:%s_%s;DB_CLOSE_DELAY=-1".formatted(aName, UUID.randomUUID()), "sa", ""
+        );
+        final var jdbc = new JdbcTemplate(aDataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(16))");
+        jdbc.update("INSERT INTO node VALUES (?)", aName);
+        return aDataSource;
+    }
+}
@@ -0,0 +1,226 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.persistence;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryRow;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+@MySQLGatewayTest
+@TestPropertySource(properties = {"cache.second-level.enabled=true", "cache.second-level.statistics=true"})
+class SecondLevelCacheTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        // Each step commits in its own transaction, the rollback of the test transaction does not undo them
+        inNewTransaction(() -> {
+            genreRepository.deleteAll();
+            categoryRepository.deleteAll();
+            return null;
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void givenAPersistedCategory_whenCallsFindByIdInAnotherTransaction_shouldHitTheSecondLevelCache() {
+        // given
+        final var aCategory = inNewTransaction(() -> categoryGateway.create(Category.newCategory("Filmes", null, true)));
+        statistics.clear();
+
+        // when
+        final var actualCategory = inNewTransaction(() -> categoryGateway.findById(aCategory.getId())).get();
+        inNewTransaction(() -> categoryGateway.findById(aCategory.getId()));
+
+        // then
+        Assertions.assertEquals(aCategory.getName(), actualCategory.getName());
+        Assertions.assertEquals(2, regionHits(CategoryJpaEntity.CACHE_REGION));
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsUpdateAndDeleteById_shouldNotServeStaleEntries() {
+        // given
+        final var aCategory = inNewTransaction(() -> categoryGateway.create(Category.newCategory("Filmes", null, true)));
+        inNewTransaction(() -> categoryGateway.findById(aCategory.getId()));
+
+        // when
+        inNewTransaction(() -> categoryGateway.update(
+                Category.with(aCategory).update("Filmes e Séries", "Atualizada", true)
+        ));
+        final var actualUpdated = inNewTransaction(() -> categoryGateway.findById(aCategory.getId())).get();
+
+        inNewTransaction(() -> {
+            categoryGateway.deleteById(aCategory.getId());
+            return null;
+        });
+        final var actualDeleted = inNewTransaction(() -> categoryGateway.findById(aCategory.getId()));
+
+        // then
+        Assertions.assertEquals("Filmes e Séries", actualUpdated.getName());
+        Assertions.assertEquals("Atualizada", actualUpdated.getDescription());
+        Assertions.assertTrue(actualDeleted.isEmpty());
+    }
+
+    @Test
+    void givenTwoCachedCategories_whenCallsDeleteByIdOnOne_shouldKeepTheOtherCached() {
+        // given
+        final var filmes = inNewTransaction(() -> categoryGateway.create(Category.newCategory("Filmes", null, true)));
+        final var series = inNewTransaction(() -> categoryGateway.create(Category.newCategory("Séries", null, true)));
+        inNewTransaction(() -> categoryGateway.findById(filmes.getId()));
+        inNewTransaction(() -> categoryGateway.findById(series.getId()));
+
+        // when
+        inNewTransaction(() -> {
+            categoryGateway.deleteById(filmes.getId());
+            return null;
+        });
+        inNewTransaction(() -> categoryGateway.deleteAllById(List.of(CategoryID.unique())));
+        statistics.clear();
+
+        final var actualKept = inNewTransaction(() -> categoryGateway.findById(series.getId())).get();
+        final var actualDeleted = inNewTransaction(() -> categoryGateway.findById(filmes.getId()));
+
+        // then
+        Assertions.assertEquals("Séries", actualKept.getName());
+        Assertions.assertEquals(1, regionHits(CategoryJpaEntity.CACHE_REGION));
+        Assertions.assertTrue(actualDeleted.isEmpty());
+    }
+
+    @Test
+    void givenACachedListQuery_whenACategoryIsSaved_shouldInvalidateTheQueryCache() {
+        // given
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+        inNewTransaction(() -> categoryGateway.create(Category.newCategory("Filmes", null, true)));
+        inNewTransaction(() -> categoryGateway.findAll(aQuery));
+        statistics.clear();
+
+        // when
+        final var actualCached = inNewTransaction(() -> categoryGateway.findAll(aQuery));
+        final var actualCacheHits = statistics.getQueryCacheHitCount();
+        final var actualStatements = statistics.getPrepareStatementCount();
+
+        inNewTransaction(() -> categoryGateway.create(Category.newCategory("Séries", null, true)));
+        final var actualAfterSave = inNewTransaction(() -> categoryGateway.findAll(aQuery));
+
+        // then
+        Assertions.assertEquals(1, actualCached.total());
+        Assertions.assertTrue(actualCacheHits > 0);
+        Assertions.assertEquals(0, actualStatements);
+        Assertions.assertEquals(2, actualAfterSave.total());
+        Assertions.assertEquals(List.of("Filmes", "Séries"), actualAfterSave.items().stream().map(Category::getName).toList());
+    }
+
+    @Test
+    void givenACachedProjectionQuery_whenACategoryIsSaved_shouldInvalidateItsRowsAndCount() {
+        // given a full first page, so the total comes from the cached count query and not from the page size
+        final var aQuery = new SearchQuery(0, 1, "", "name", "asc");
+        inNewTransaction(() -> categoryGateway.create(Category.newCategory("Filmes", null, true)));
+        inNewTransaction(() -> categoryGateway.create(Category.newCategory("Séries", null, true)));
+        inNewTransaction(() -> categoryGateway.findAll(aQuery, CategoryRow::name));
+        statistics.clear();
+
+        // when
+        final var actualCached = inNewTransaction(() -> categoryGateway.findAll(aQuery, CategoryRow::name));
+        final var actualCacheHits = statistics.getQueryCacheHitCount();
+        final var actualStatements = statistics.getPrepareStatementCount();
+
+        inNewTransaction(() -> categoryGateway.create(Category.newCategory("Documentários", null, true)));
+        final var actualAfterSave = inNewTransaction(() -> categoryGateway.findAll(aQuery, CategoryRow::name));
+
+        // then
+        Assertions.assertEquals(2, actualCached.total());
+        Assertions.assertEquals(List.of("Filmes"), actualCached.items());
+        Assertions.assertEquals(2, actualCacheHits);
+        Assertions.assertEquals(0, actualStatements);
+        Assertions.assertEquals(3, actualAfterSave.total());
+        Assertions.assertEquals(List.of("Documentários"), actualAfterSave.items());
+    }
+
+    @Test
+    void givenACachedGenre_whenCallsFindByIdInAnotherTransaction_shouldReadItsCategoriesFromTheCache() {
+        // given
+        final var filmes = inNewTransaction(() -> categoryGateway.create(Category.newCategory("Filmes", null, true)));
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategories(List.of(filmes.getId()));
+        inNewTransaction(() -> genreGateway.create(aGenre));
+        inNewTransaction(() -> genreGateway.findById(aGenre.getId()));
+        statistics.clear();
+
+        // when
+        final var actualGenre = inNewTransaction(() -> genreGateway.findById(aGenre.getId())).get();
+        final var actualGenreHits = regionHits(GenreJpaEntity.CACHE_REGION);
+        final var actualCategoriesHits = regionHits(GenreJpaEntity.CATEGORIES_CACHE_REGION);
+        final var actualStatements = statistics.getPrepareStatementCount();
+
+        inNewTransaction(() -> {
+            categoryGateway.deleteById(filmes.getId());
+            return null;
+        });
+        final var actualAfterDelete = inNewTransaction(() -> genreGateway.findById(aGenre.getId())).get();
+
+        // then
+        Assertions.assertEquals(List.of(filmes.getId()), actualGenre.getCategories());
+        Assertions.assertEquals(1, actualGenreHits);
+        Assertions.assertEquals(1, actualCategoriesHits);
+        Assertions.assertEquals(0, actualStatements);
+        Assertions.assertEquals(Set.of(), Set.copyOf(actualAfterDelete.getCategories()));
+    }
+
+    private long regionHits(final String aRegion) {
+        return statistics.getDomainDataRegionStatistics(aRegion).getHitCount();
+    }
+
+    private <T> T inNewTransaction(final Supplier<T> aCallback) {
+        final var aTemplate = new TransactionTemplate(transactionManager);
+        aTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return aTemplate.execute(status -> aCallback.get());
+    }
+}
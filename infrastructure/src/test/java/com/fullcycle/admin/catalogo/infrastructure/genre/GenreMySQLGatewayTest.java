@@ -3,20 +3,32 @@ package com.fullcycle.admin.catalogo.infrastructure.genre;
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreRow;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
 import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.observability.StatementCounter;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -32,6 +44,9 @@ class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void testDependenciesInjected() {
         Assertions.assertNotNull(categoryGateway);
@@ -324,6 +339,72 @@ class GenreMySQLGatewayTest {
         assertEquals(0, genreRepository.count());
     }
 
+    @Test
+    void givenANotPersistedGenre_whenCallsUpdate_shouldThrowNotFoundAndNotInsertIt() {
+        // given
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedErrorMessage = "Genre with ID %s was not found".formatted(aGenre.getId().getValue());
+
+        // when
+        final var actualException = Assertions.assertThrows(NotFoundException.class, () -> genreGateway.update(aGenre));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals(0, genreRepository.count());
+    }
+
+    @Test
+    void givenAValidGenreWithCategories_whenCallsCreate_shouldOnlyInsert() {
+        // given
+        final var filmes =
+                categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series =
+                categoryGateway.create(Category.newCategory("Séries", null, true));
+        genreRepository.flush();
+
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategories(List.of(filmes.getId(), series.getId()));
+
+        // when
+        final var statementsBefore = StatementCounter.current();
+        genreGateway.create(aGenre);
+        genreRepository.flush();
+
+        // then
+        assertEquals(3, StatementCounter.current() - statementsBefore);
+        assertEquals(1, genreRepository.count());
+    }
+
+    @Test
+    void givenPrePersistedGenresWithCategories_whenCallsDeleteAllById_shouldDeleteGenresAndTheirCategoryLinks() {
+        // given
+        final var filmes =
+                categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(List.of(filmes.getId()));
+        final var drama = Genre.newGenre("Drama", true);
+        drama.addCategories(List.of(filmes.getId()));
+        final var terror = Genre.newGenre("Terror", true);
+
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(acao),
+                GenreJpaEntity.from(drama),
+                GenreJpaEntity.from(terror)
+        ));
+
+        // when
+        final var actualDeleted = genreGateway.deleteAllById(List.of(acao.getId(), drama.getId(), GenreID.unique()));
+
+        // then
+        assertEquals(2, actualDeleted);
+        assertEquals(1, genreRepository.count());
+        assertTrue(genreRepository.existsById(terror.getId().getValue()));
+        assertEquals(0L, ((Number) entityManager
+                .createNativeQuery("SELECT COUNT(*) FROM genres_categories")
+                .getSingleResult()).longValue());
+    }
+
     @Test
     void givenAnInvalidGenre_whenCallsDeleteById_shouldReturnOk() {
         assertEquals(0, genreRepository.count());
@@ -509,6 +590,308 @@ class GenreMySQLGatewayTest {
         }
     }
 
+    @Test
+    void givenGenresWithCategories_whenCallsFindAllWithARowMapper_shouldReturnTheCategoriesCount() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(List.of(filmes.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", true);
+        drama.addCategories(List.of(filmes.getId()));
+        final var terror = Genre.newGenre("Terror", false);
+
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(acao),
+                GenreJpaEntity.from(drama),
+                GenreJpaEntity.from(terror)
+        ));
+        entityManager.clear();
+
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+
+        // when
+        final var actualPage = genreGateway.findAll(
+                aQuery,
+                aRow -> aRow.name() + ":" + aRow.categoriesCount()
+        );
+
+        // then
+        assertEquals(3, actualPage.total());
+        assertEquals(List.of("Ação:2", "Drama:1", "Terror:0"), actualPage.items());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "asc,Ação;Comédia romântica,Drama;Ficção científica,Terror",
+            "desc,Terror;Ficção científica,Drama;Comédia romântica,Ação",
+    })
+    void givenACursor_whenCallsFindAll_shouldReturnTheRowsAfterIt(
+            final String expectedDirection,
+            final String expectedFirstPage,
+            final String expectedSecondPage,
+            final String expectedThirdPage
+    ) {
+        // given
+        mockGenre();
+        final var expectedPerPage = 2;
+        final var expectedTotal = 5;
+
+        String after = null;
+        for (final var expectedPage : List.of(expectedFirstPage, expectedSecondPage, expectedThirdPage)) {
+            // the page number is ignored once there is a cursor
+            final var aQuery = new SearchQuery(
+                    after == null ? 0 : 7, expectedPerPage, "", "name", expectedDirection, null, null, after
+            );
+
+            // when
+            final var actualPage = genreGateway.findAll(aQuery);
+
+            // then
+            assertEquals(0, actualPage.currentPage());
+            assertEquals(expectedTotal, actualPage.total());
+            assertEquals(
+                    List.of(expectedPage.split(";")),
+                    actualPage.items().stream().map(Genre::getName).toList()
+            );
+
+            after = actualPage.next();
+        }
+        assertNull(after);
+    }
+
+    @Test
+    void givenACursorOnTiedSortValues_whenCallsFindAll_shouldBreakTheTieById() {
+        // given
+        final var genres = IntStream.range(0, 5)
+                .mapToObj(i -> GenreJpaEntity.from(Genre.newGenre("Ação", true)))
+                .toList();
+        genreRepository.saveAllAndFlush(genres);
+
+        final var actualIds = new ArrayList<String>();
+        String after = null;
+
+        // when
+        do {
+            final var actualPage = genreGateway.findAll(
+                    new SearchQuery(0, 2, "", "name", "asc", null, null, after),
+                    GenreRow::id
+            );
+            actualIds.addAll(actualPage.items());
+            after = actualPage.next();
+        } while (after != null && actualIds.size() < 10);
+
+        // then
+        assertEquals(5, actualIds.size());
+        assertEquals(5, new HashSet<>(actualIds).size());
+    }
+
+    @Test
+    void givenACursor_whenCallsFindAll_shouldCarryTheFirstPageTotalInsteadOfCountingAgain() {
+        // given
+        mockGenre();
+        final var firstPage = genreGateway.findAll(new SearchQuery(0, 2, "", "name", "asc"));
+        entityManager.clear();
+
+        // when
+        final var statementsBefore = StatementCounter.current();
+        final var actualPage = genreGateway.findAll(
+                new SearchQuery(0, 2, "", "name", "asc", null, null, firstPage.next()),
+                GenreRow::name
+        );
+
+        // then
+        assertEquals(1, StatementCounter.current() - statementsBefore);
+        assertEquals(5, actualPage.total());
+        assertEquals(List.of("Drama", "Ficção científica"), actualPage.items());
+    }
+
+    @Test
+    void givenACursorWhoseRowWasDeleted_whenCallsFindAll_shouldContinueAfterItsPosition() {
+        // given
+        mockGenre();
+        final var firstPage = genreGateway.findAll(new SearchQuery(0, 2, "", "name", "asc"));
+        genreGateway.deleteById(firstPage.items().get(1).getId());
+        genreRepository.flush();
+
+        // when
+        final var actualPage = genreGateway.findAll(
+                new SearchQuery(0, 2, "", "name", "asc", null, null, firstPage.next())
+        );
+
+        // then
+        assertEquals(List.of("Ação", "Comédia romântica"), firstPage.items().stream().map(Genre::getName).toList());
+        assertEquals(List.of("Drama", "Ficção científica"), actualPage.items().stream().map(Genre::getName).toList());
+    }
+
+    @Test
+    void givenACursorWhoseRowWasRenamed_whenCallsFindAll_shouldNotSkipTheRowsAfterItsPosition() {
+        // given
+        mockGenre();
+        final var firstPage = genreGateway.findAll(new SearchQuery(0, 2, "", "name", "asc"));
+        final var comedia = firstPage.items().get(1);
+        genreGateway.update(comedia.update("Zumbi", true, List.of()));
+        genreRepository.flush();
+
+        // when
+        final var actualPage = genreGateway.findAll(
+                new SearchQuery(0, 2, "", "name", "asc", null, null, firstPage.next())
+        );
+
+        // then
+        assertEquals(List.of("Drama", "Ficção científica"), actualPage.items().stream().map(Genre::getName).toList());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "c0ffee",
+            "0a0b0c0d-0000-4000-8000-000000000001",
+            "eyJzb3J0IjoibmFtZSJ9",
+    })
+    void givenAnUnknownCursor_whenCallsFindAll_shouldThrowDomainException(final String after) {
+        // given
+        mockGenre();
+        final var expectedErrorMessage = "'after' is not a valid cursor";
+
+        // when
+        final var actualException = assertThrows(
+                DomainException.class,
+                () -> genreGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", null, null, after))
+        );
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenACursorOfAnotherSortOrder_whenCallsFindAll_shouldThrowDomainException() {
+        // given
+        mockGenre();
+        final var expectedErrorMessage = "'after' was issued for another sort order";
+        final var firstPage = genreGateway.findAll(new SearchQuery(0, 2, "", "name", "asc"));
+
+        // when
+        final var actualException = assertThrows(
+                DomainException.class,
+                () -> genreGateway.findAll(new SearchQuery(0, 2, "", "createdAt", "asc", null, null, firstPage.next()))
+        );
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenGenresLinkedToACategory_whenCallsFindByCategory_shouldReturnTheirIdsPaginated() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var linked = IntStream.range(0, 3)
+                .mapToObj(i -> Genre.newGenre("Genre " + i, true).addCategory(filmes.getId()))
+                .toList();
+        final var other = Genre.newGenre("Other", true).addCategory(series.getId());
+
+        genreRepository.saveAllAndFlush(CollectionUtils.mapTo(
+                List.of(linked.get(0), linked.get(1), linked.get(2), other),
+                GenreJpaEntity::from
+        ));
+
+        final var expectedIds = linked.stream()
+                .map(Genre::getId)
+                .sorted(Comparator.comparing(anId -> UuidBinaryType.toBytes(anId.getValue()), Arrays::compareUnsigned))
+                .toList();
+
+        // when
+        final var firstPage = genreGateway.findByCategory(filmes.getId(), new SearchQuery(0, 2, "", "", ""));
+        entityManager.clear();
+
+        final var statementsBefore = StatementCounter.current();
+        final var secondPage = genreGateway.findByCategory(
+                filmes.getId(),
+                new SearchQuery(0, 2, "", "", "", null, null, firstPage.next())
+        );
+
+        // then
+        assertEquals(3, firstPage.total());
+        assertEquals(expectedIds.subList(0, 2), firstPage.items());
+        assertEquals(1, StatementCounter.current() - statementsBefore);
+        assertEquals(3, secondPage.total());
+        assertEquals(expectedIds.subList(2, 3), secondPage.items());
+        assertNull(secondPage.next());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "c0ffee",
+            "0a0b0c0d-0000-4000-8000-000000000001",
+            "eyJzb3J0IjoiZ2VucmVJZCJ9",
+    })
+    void givenAMalformedCursor_whenCallsFindByCategory_shouldThrowDomainException(final String after) {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        genreRepository.saveAndFlush(GenreJpaEntity.from(Genre.newGenre("Ação", true).addCategory(filmes.getId())));
+        final var expectedErrorMessage = "'after' is not a valid cursor";
+
+        // when
+        final var actualException = assertThrows(
+                DomainException.class,
+                () -> genreGateway.findByCategory(filmes.getId(), new SearchQuery(0, 2, "", "", "", null, null, after))
+        );
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenACursorOfTheGenreList_whenCallsFindByCategory_shouldThrowDomainException() {
+        // given
+        mockGenre();
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var expectedErrorMessage = "'after' was issued for another sort order";
+        final var aGenrePage = genreGateway.findAll(new SearchQuery(0, 2, "", "name", "asc"));
+
+        // when
+        final var actualException = assertThrows(
+                DomainException.class,
+                () -> genreGateway.findByCategory(
+                        filmes.getId(),
+                        new SearchQuery(0, 2, "", "", "", null, null, aGenrePage.next())
+                )
+        );
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenGenresLinkedToManyCategories_whenCallsFindByCategories_shouldReturnEachGenreOnce() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var documentarios = categoryGateway.create(Category.newCategory("Documentários", null, true));
+
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(List.of(filmes.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", true).addCategory(series.getId());
+        final var natureza = Genre.newGenre("Natureza", true).addCategory(documentarios.getId());
+
+        genreRepository.saveAllAndFlush(CollectionUtils.mapTo(List.of(acao, drama, natureza), GenreJpaEntity::from));
+
+        // when
+        final var actualPage = genreGateway.findByCategories(
+                List.of(filmes.getId(), series.getId()),
+                new SearchQuery(0, 10, "", "", "")
+        );
+
+        // then
+        assertEquals(2, actualPage.total());
+        assertEquals(
+                sortedGenres(List.of(acao.getId(), drama.getId())),
+                sortedGenres(actualPage.items())
+        );
+    }
+
     private void mockGenre() {
         genreRepository.saveAllAndFlush(List.of(
                 GenreJpaEntity.from(Genre.newGenre("Comédia romântica", true)),
@@ -523,6 +906,12 @@ class GenreMySQLGatewayTest {
         genreRepository.saveAndFlush(GenreJpaEntity.from(Genre.newGenre(expectedGenreName, true)));
     }
 
+    private List<GenreID> sortedGenres(final List<GenreID> genreIds) {
+        return genreIds.stream()
+                .sorted(Comparator.comparing(GenreID::getValue))
+                .toList();
+    }
+
     private List<CategoryID> sorted(final List<CategoryID> expectedCategories) {
         return expectedCategories.stream()
                 .sorted(Comparator.comparing(CategoryID::getValue))
@@ -0,0 +1,200 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.imports;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MySQLGatewayTest
+class GenreCategoryLinkImporterTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final String MISSING_ID = "0a0b0c0d-0000-4000-8000-000000000001";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    private GenreCategoryLinkImporter importer;
+
+    private String filmes;
+    private String series;
+    private String acao;
+    private String drama;
+    private String terror;
+    private String file;
+
+    @BeforeEach
+    void setUp() {
+        this.importer = new GenreCategoryLinkImporter(
+                jdbcTemplate,
+                new TransactionTemplate(transactionManager),
+                entityManagerFactory,
+                CHUNK_SIZE
+        );
+
+        final var aFilmes = Category.newCategory("Filmes", null, true);
+        final var aSeries = Category.newCategory("Séries", null, true);
+        final var anAcao = Genre.newGenre("Ação", true).addCategory(aFilmes.getId());
+        final var aDrama = Genre.newGenre("Drama", true);
+        final var aTerror = Genre.newGenre("Terror", true);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.newEntity(aFilmes), CategoryJpaEntity.newEntity(aSeries)));
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.newEntity(anAcao),
+                GenreJpaEntity.newEntity(aDrama),
+                GenreJpaEntity.newEntity(aTerror)
+        ));
+
+        this.filmes = aFilmes.getId().getValue();
+        this.series = aSeries.getId().getValue();
+        this.acao = anAcao.getId().getValue();
+        this.drama = aDrama.getId().getValue();
+        this.terror = aTerror.getId().getValue();
+
+        this.file = """
+                genre_id,category_id
+                %s,%s
+                %s,%s
+                %s,%s
+                %s,%s
+                %s,%s
+                %s,
+                """.formatted(
+                acao, filmes,
+                acao, series,
+                drama, filmes,
+                drama, filmes,
+                MISSING_ID, filmes,
+                drama
+        );
+    }
+
+    @Test
+    void givenNewExistingAndInvalidPairs_whenImports_shouldLinkOnlyTheNewOnesAndReportTheOthersByLine() throws IOException {
+        // given
+        final var acaoUpdatedAt = updatedAt(acao);
+        final var dramaUpdatedAt = updatedAt(drama);
+        final var terrorUpdatedAt = updatedAt(terror);
+        final var actualErrors = new ArrayList<GenreCategoryLinkError>();
+
+        // when
+        final var actualReport = importer.importFrom(csv(file), actualErrors::add);
+
+        // then
+        assertEquals(new GenreCategoryLinkReport(6, 2, 2, 2), actualReport);
+        assertEquals(
+                List.of(
+                        new GenreCategoryLinkError(6, List.of(new Error("Genre with ID %s was not found".formatted(MISSING_ID)))),
+                        new GenreCategoryLinkError(7, List.of(new Error("'category_id' should not be empty")))
+                ),
+                actualErrors.stream().sorted(Comparator.comparingLong(GenreCategoryLinkError::line)).toList()
+        );
+
+        assertEquals(List.of(filmes, series).stream().sorted().toList(), categoriesOf(acao));
+        assertEquals(List.of(filmes), categoriesOf(drama));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM genres_categories", Long.class));
+
+        assertTrue(updatedAt(acao).after(acaoUpdatedAt));
+        assertTrue(updatedAt(drama).after(dramaUpdatedAt));
+        assertEquals(terrorUpdatedAt, updatedAt(terror));
+    }
+
+    @Test
+    void givenAnAppliedFile_whenImportsItAgain_shouldLinkNothingAndKeepUpdatedAt() throws IOException {
+        // given
+        importer.importFrom(csv(file), anError -> {});
+        final var acaoUpdatedAt = updatedAt(acao);
+        final var dramaUpdatedAt = updatedAt(drama);
+
+        // when
+        final var actualReport = importer.importFrom(csv(file), anError -> {});
+
+        // then
+        assertEquals(new GenreCategoryLinkReport(6, 0, 2, 0), actualReport);
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM genres_categories", Long.class));
+        assertEquals(acaoUpdatedAt, updatedAt(acao));
+        assertEquals(dramaUpdatedAt, updatedAt(drama));
+    }
+
+    @Test
+    void givenMalformedIds_whenImports_shouldRejectTheirRowsAndLinkTheOthers() throws IOException {
+        // given
+        final var aFile = """
+                genre_id,category_id
+                %s,%s
+                not-a-uuid,%s
+                %s,0a0b0c0d-0000-4000-8000-00000000000Z
+                """.formatted(terror, series, series, terror);
+        final var actualErrors = new ArrayList<GenreCategoryLinkError>();
+
+        // when
+        final var actualReport = importer.importFrom(csv(aFile), actualErrors::add);
+
+        // then
+        assertEquals(new GenreCategoryLinkReport(3, 1, 2, 1), actualReport);
+        assertEquals(
+                List.of(
+                        new GenreCategoryLinkError(3, List.of(new Error("'genre_id' must be a UUID"))),
+                        new GenreCategoryLinkError(4, List.of(new Error("'category_id' must be a UUID")))
+                ),
+                actualErrors
+        );
+        assertEquals(List.of(series), categoriesOf(terror));
+    }
+
+    private Timestamp updatedAt(final String aGenreId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM genres WHERE id = ?",
+                Timestamp.class,
+                (Object) UuidBinaryType.toBytes(aGenreId)
+        );
+    }
+
+    private List<String> categoriesOf(final String aGenreId) {
+        return jdbcTemplate.queryForList(
+                        "SELECT category_id FROM genres_categories WHERE genre_id = ?",
+                        byte[].class,
+                        (Object) UuidBinaryType.toBytes(aGenreId)
+                ).stream()
+                .map(UuidBinaryType::fromBytes)
+                .sorted()
+                .toList();
+    }
+
+    private static GenreCategoryLinkReader csv(final String aFile) {
+        return new CsvGenreCategoryLinkReader(new StringReader(aFile));
+    }
+}
@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MySQLGatewayTest
+class GenreQueryPlanTest {
+
+    private static final String INDEX_SORTED = "/* index sorted */";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @ParameterizedTest
+    @CsvSource({
+            "name",
+            "created_at",
+            "updated_at",
+    })
+    void givenAnAllowedSortKey_whenExplainsTheListQuery_shouldReadRowsInIndexOrder(final String aColumn) {
+        final var actualPlan = explain(
+                "SELECT * FROM genres ORDER BY %s ASC, id ASC LIMIT 10".formatted(aColumn)
+        );
+
+        assertTrue(actualPlan.contains("PUBLIC.IDX_GENRES_" + aColumn.toUpperCase()), actualPlan);
+        assertTrue(actualPlan.contains(INDEX_SORTED), actualPlan);
+    }
+
+    @Test
+    void givenTheCategoriesCount_whenExplainsTheListQuery_shouldSeekTheLinksOfEachGenre() {
+        final var actualPlan = explain("""
+                SELECT g.id, (SELECT COUNT(gc.genre_id) FROM genres_categories gc WHERE g.id = gc.genre_id)
+                FROM genres g ORDER BY g.name ASC, g.id ASC LIMIT 10
+                """);
+
+        assertTrue(actualPlan.contains(": GENRE_ID = G.ID */"), actualPlan);
+        assertFalse(actualPlan.contains("PUBLIC.GENRES_CATEGORIES.tableScan"), actualPlan);
+    }
+
+    @Test
+    void givenACategory_whenExplainsTheGenresByCategoryQuery_shouldRangeScanTheCategoryGenreIndex() {
+        final var actualPlan = explain("""
+                SELECT genre_id FROM genres_categories
+                WHERE category_id = X'0123456789abcdef0123456789abcdef' AND genre_id > X'00'
+                ORDER BY genre_id ASC LIMIT 100
+                """);
+
+        assertTrue(actualPlan.contains("PUBLIC.IDX_CATEGORY_GENRE: CATEGORY_ID ="), actualPlan);
+        assertTrue(actualPlan.contains("AND GENRE_ID > X'00'"), actualPlan);
+    }
+
+    private String explain(final String aQuery) {
+        return (String) this.entityManager.createNativeQuery("EXPLAIN " + aQuery).getSingleResult();
+    }
+}
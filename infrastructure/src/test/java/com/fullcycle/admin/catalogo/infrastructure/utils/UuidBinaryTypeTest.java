@@ -0,0 +1,48 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class UuidBinaryTypeTest {
+
+    @Test
+    void givenAnUppercaseUuid_whenConvertsToBytesAndBack_shouldReturnTheCanonicalForm() {
+        // given
+        final var expectedId = "0a0b0c0d-0000-4000-8000-00000000000f";
+
+        // when
+        final var actualBytes = UuidBinaryType.toBytes(expectedId.toUpperCase());
+
+        // then
+        Assertions.assertEquals(16, actualBytes.length);
+        Assertions.assertEquals(expectedId, UuidBinaryType.fromBytes(actualBytes));
+    }
+
+    @Test
+    void givenAnIdThatIsNotAUuid_whenConvertsToBytes_shouldThrowInsteadOfPaddingIt() {
+        // when
+        final var actualException = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> UuidBinaryType.toBytes("123")
+        );
+
+        // then
+        Assertions.assertEquals("'123' is not a UUID and cannot be stored as BINARY(16)", actualException.getMessage());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> UuidBinaryType.fromBytes(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    void givenUuidAndNonUuidIds_whenCallsStorableValues_shouldKeepOnlyTheUuids() {
+        // given
+        final var aCategoryId = CategoryID.unique();
+
+        // when
+        final var actualValues = UuidBinaryType.storableValues(List.of(CategoryID.from("123"), aCategoryId));
+
+        // then
+        Assertions.assertEquals(List.of(aCategoryId.getValue()), actualValues);
+    }
+}
@@ -0,0 +1 @@
+CREATE ALIAS IF NOT EXISTS UNHEX FOR "org.h2.util.StringUtils.convertHexToBytes";